@@ -0,0 +1,194 @@
+package com.suyeon.suyeon.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JWKS 문서의 공개 키를 kid로 찾아 주는 jjwt Locator입니다.
+ * 키는 kid를 키로 하는 Map에 파싱해 두고, 응답의 Cache-Control max-age(없으면 defaultTtl)가 지나거나
+ * 모르는 kid가 들어왔을 때 JWKS를 다시 받아와 Map을 통째로 바꿉니다. 따라서 회원 서비스에서 내린 키는 max-age 안에 사라집니다.
+ * 다시 받아오는 간격은 minRefreshInterval 이상으로 제한해 잘못된 kid로 JWKS 서버를 두드리지 못하게 합니다.
+ * 만료된 키 목록을 갱신하지 못하면 오래된 키로 검증하지 않고 JwksUnavailableException을 던집니다.
+ */
+public class JwksKeyLocator extends LocatorAdapter<Key> {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final HttpClient httpClient;
+    private final URI jwksUri;
+    private final long minRefreshIntervalMillis;
+    private final long defaultTtlMillis;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicJwk<?>> keys;
+    private volatile String etag;
+    private volatile long lastRefreshMillis;
+    // 원격 키 목록을 다시 받아와야 하는 시각입니다. 고정된 키 목록(of)은 만료되지 않습니다.
+    private volatile long expiresAtMillis;
+
+    private JwksKeyLocator(
+            HttpClient httpClient, URI jwksUri, Duration minRefreshInterval, Duration defaultTtl, Map<String, PublicJwk<?>> keys) {
+        this.httpClient = httpClient;
+        this.jwksUri = jwksUri;
+        this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+        this.defaultTtlMillis = defaultTtl.toMillis();
+        this.keys = keys;
+        this.expiresAtMillis = jwksUri == null ? Long.MAX_VALUE : 0L;
+    }
+
+    /**
+     * 원격 JWKS 엔드포인트에서 키를 받아옵니다. 첫 토큰을 검증할 때 처음 요청합니다.
+     * 응답에 Cache-Control max-age가 없으면 5분 동안 키 목록을 재사용합니다.
+     */
+    public static JwksKeyLocator remote(URI jwksUri, Duration minRefreshInterval) {
+        return remote(jwksUri, minRefreshInterval, DEFAULT_TTL);
+    }
+
+    public static JwksKeyLocator remote(URI jwksUri, Duration minRefreshInterval, Duration defaultTtl) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        return new JwksKeyLocator(httpClient, jwksUri, minRefreshInterval, defaultTtl, Map.of());
+    }
+
+    /**
+     * 이미 가지고 있는 JWKS 문서로 고정된 키 목록을 만듭니다.
+     */
+    public static JwksKeyLocator of(String jwksJson) {
+        return new JwksKeyLocator(null, null, Duration.ZERO, Duration.ZERO, parse(jwksJson));
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new MalformedJwtException("kid가 없는 토큰입니다.");
+        }
+
+        PublicJwk<?> jwk = currentKeys().get(kid);
+        if (jwk == null && refresh()) {
+            jwk = keys.get(kid);
+        }
+        if (jwk == null) {
+            throw new MalformedJwtException("등록되지 않은 서명 키입니다 : " + kid);
+        }
+        if (jwk.getAlgorithm() != null && !jwk.getAlgorithm().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("kid에 등록된 알고리즘과 다릅니다 : " + header.getAlgorithm());
+        }
+        return jwk.toKey();
+    }
+
+    private Map<String, PublicJwk<?>> currentKeys() {
+        if (System.currentTimeMillis() >= expiresAtMillis) {
+            // minRefreshInterval에 걸려 받아오지 못했더라도, 그 사이 다른 스레드가 갱신했다면 그대로 사용합니다.
+            if (!refresh() && System.currentTimeMillis() >= expiresAtMillis) {
+                throw new JwksUnavailableException("JWKS 캐시가 만료되었고 다시 받아오지 못했습니다 : " + jwksUri);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * JWKS를 다시 확인했으면(200 또는 304) true, 원격 JWKS가 없거나 minRefreshInterval에 걸렸으면 false를 반환합니다.
+     */
+    private boolean refresh() {
+        if (jwksUri == null) {
+            return false;
+        }
+        // synchronized 안에서 HTTP 요청을 보내면 Java 21 가상 스레드가 캐리어 스레드에 고정(pinning)되므로 ReentrantLock을 사용합니다.
+        refreshLock.lock();
+        try {
+            return fetch();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean fetch() {
+        long now = System.currentTimeMillis();
+        if (lastRefreshMillis != 0 && now - lastRefreshMillis < minRefreshIntervalMillis) {
+            return false;
+        }
+        lastRefreshMillis = now;
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(jwksUri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new JwksUnavailableException("JWKS를 가져올 수 없습니다 : " + jwksUri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JwksUnavailableException("JWKS 요청이 중단되었습니다 : " + jwksUri, e);
+        }
+
+        if (response.statusCode() == 304) {
+            expiresAtMillis = now + ttlMillis(response);
+            return true;
+        }
+        if (response.statusCode() != 200) {
+            throw new JwksUnavailableException("JWKS 응답 코드가 올바르지 않습니다 : " + response.statusCode());
+        }
+
+        keys = parse(response.body());
+        etag = response.headers().firstValue("ETag").orElse(null);
+        expiresAtMillis = now + ttlMillis(response);
+        return true;
+    }
+
+    /**
+     * Cache-Control의 max-age를 따르되, minRefreshInterval보다 짧으면 만료 직후 다시 받아오지 못하므로 그 간격 이상으로 둡니다.
+     */
+    private long ttlMillis(HttpResponse<?> response) {
+        long ttlMillis = defaultTtlMillis;
+        String cacheControl = response.headers().firstValue("Cache-Control").orElse("");
+        for (String directive : cacheControl.split(",")) {
+            String value = directive.trim();
+            if (value.regionMatches(true, 0, "max-age=", 0, 8)) {
+                try {
+                    ttlMillis = Duration.ofSeconds(Long.parseLong(value.substring(8).trim())).toMillis();
+                } catch (NumberFormatException e) {
+                    // 잘못된 max-age는 무시하고 기본값을 사용합니다.
+                }
+            }
+        }
+        return Math.max(ttlMillis, minRefreshIntervalMillis);
+    }
+
+    private static Map<String, PublicJwk<?>> parse(String jwksJson) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(jwksJson);
+
+        Map<String, PublicJwk<?>> keys = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk instanceof PublicJwk<?> publicJwk && publicJwk.getId() != null) {
+                keys.put(publicJwk.getId(), publicJwk);
+            }
+        }
+        return Map.copyOf(keys);
+    }
+}
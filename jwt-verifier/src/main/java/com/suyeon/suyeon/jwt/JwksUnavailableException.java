@@ -0,0 +1,18 @@
+package com.suyeon.suyeon.jwt;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * JWKS를 받아오지 못해 서명 키를 확인할 수 없을 때 던집니다.
+ * JwtException이므로 JwtVerifier를 쓰는 쪽은 다른 검증 실패와 같은 경로에서 처리할 수 있습니다.
+ */
+public class JwksUnavailableException extends JwtException {
+
+    public JwksUnavailableException(String message) {
+        super(message);
+    }
+
+    public JwksUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,48 @@
+package com.suyeon.suyeon.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임을 담는 불변 객체입니다.
+ * 한 번 파싱한 결과를 JwtFilter 전체에서 재사용하기 위해 사용합니다.
+ * role은 Access Token에만 들어가며(예: ROLE_USER, ROLE_ADMIN), 없으면 null입니다.
+ */
+public record JwtClaims(String username, String type, long issuedAt, long expiration, String issuer, String id, String role) {
+
+    public JwtClaims(String username, String type, long issuedAt, long expiration, String issuer, String id) {
+        this(username, type, issuedAt, expiration, issuer, id, null);
+    }
+
+    public static JwtClaims from(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+
+        return new JwtClaims(
+                claims.get("username", String.class),
+                claims.get("type", String.class),
+                issuedAt == null ? 0L : issuedAt.getTime(),
+                expiration == null ? 0L : expiration.getTime(),
+                claims.getIssuer(),
+                claims.getId(),
+                claims.get("role", String.class));
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isExpired(long now) {
+        return expiration < now;
+    }
+
+    public boolean isRefreshable(long now) {
+        if (issuedAt == 0L || expiration == 0L) {
+            return false;
+        }
+
+        long halfLife = (expiration - issuedAt) / 2;
+        return now >= issuedAt + halfLife;
+    }
+}
@@ -0,0 +1,106 @@
+package com.suyeon.suyeon.jwt;
+
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * 서명 검증 전에 토큰의 구조만 빠르게 확인합니다.
+ * 길이, 세그먼트 개수, Base64URL 문자 집합, 헤더의 alg 값을 검사하고
+ * 통과하지 못한 토큰은 Base64/JSON 디코딩과 HMAC 계산 없이 거절합니다.
+ */
+public class JwtTokenFormat {
+
+    public static final int MAX_TOKEN_LENGTH = 4096;
+    public static final int MAX_HEADER_LENGTH = 512;
+
+    private final Set<String> allowedAlgorithms;
+
+    public JwtTokenFormat(Set<String> allowedAlgorithms) {
+        this.allowedAlgorithms = Set.copyOf(allowedAlgorithms);
+    }
+
+    public void verify(String token) {
+        int length = token.length();
+        if (length == 0 || length > MAX_TOKEN_LENGTH) {
+            throw new MalformedJwtException("토큰 길이가 올바르지 않습니다.");
+        }
+
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    throw new MalformedJwtException("토큰 세그먼트 개수가 올바르지 않습니다.");
+                }
+            } else if (!isBase64Url(c)) {
+                throw new MalformedJwtException("토큰에 허용되지 않는 문자가 있습니다.");
+            }
+        }
+
+        if (secondDot < 0 || firstDot == 0 || secondDot == firstDot + 1 || secondDot == length - 1) {
+            throw new MalformedJwtException("토큰 세그먼트 개수가 올바르지 않습니다.");
+        }
+        if (firstDot > MAX_HEADER_LENGTH) {
+            throw new MalformedJwtException("토큰 헤더가 너무 깁니다.");
+        }
+
+        String algorithm = readAlgorithm(token, firstDot);
+        if (!allowedAlgorithms.contains(algorithm)) {
+            throw new UnsupportedJwtException("지원하지 않는 서명 알고리즘입니다 : " + algorithm);
+        }
+    }
+
+    private static String readAlgorithm(String token, int headerEnd) {
+        String header;
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(token.substring(0, headerEnd));
+            header = new String(decoded, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("토큰 헤더를 디코딩할 수 없습니다.");
+        }
+
+        int key = header.indexOf("\"alg\"");
+        if (key < 0) {
+            throw new MalformedJwtException("토큰 헤더에 alg가 없습니다.");
+        }
+
+        int i = skipWhitespace(header, key + 5);
+        if (i >= header.length() || header.charAt(i) != ':') {
+            throw new MalformedJwtException("토큰 헤더가 올바르지 않습니다.");
+        }
+        i = skipWhitespace(header, i + 1);
+        if (i >= header.length() || header.charAt(i) != '"') {
+            throw new MalformedJwtException("토큰 헤더가 올바르지 않습니다.");
+        }
+
+        int end = header.indexOf('"', i + 1);
+        if (end < 0) {
+            throw new MalformedJwtException("토큰 헤더가 올바르지 않습니다.");
+        }
+        return header.substring(i + 1, end);
+    }
+
+    private static int skipWhitespace(String value, int index) {
+        while (index < value.length() && Character.isWhitespace(value.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z')
+                || (c >= 'a' && c <= 'z')
+                || (c >= '0' && c <= '9')
+                || c == '-'
+                || c == '_';
+    }
+}
@@ -0,0 +1,72 @@
+package com.suyeon.suyeon.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+
+import java.net.URI;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 다른 서비스에서 회원 서비스를 호출하지 않고 토큰을 직접 검증할 때 사용합니다.
+ *
+ * <pre>
+ * JwtVerifier verifier = JwtVerifier.fromJwksUri(URI.create("http://member-service/.well-known/jwks.json"));
+ * JwtClaims claims = verifier.verifyAccessToken(token);
+ * </pre>
+ *
+ * 서명, 만료 시각, 구조를 확인하며 실패하면 jjwt 예외를 그대로 던집니다.
+ * JWKS를 받아오지 못한 경우도 JwtException의 하위 타입(JwksUnavailableException)으로 던집니다.
+ * 요청 인증에는 type이 access인 토큰만 받는 verifyAccessToken을 사용하세요. verify는 Refresh Token도 통과시킵니다.
+ * 토큰 폐기 목록(로그아웃)은 회원 서비스에만 있으므로 여기서는 확인하지 않습니다.
+ */
+public class JwtVerifier {
+
+    public static final Set<String> ASYMMETRIC_ALGORITHMS = Set.of("ES256", "ES384", "ES512", "EdDSA");
+
+    private final JwtTokenFormat tokenFormat;
+    private final JwtParser jwtParser;
+    private final JwtParser accessTokenParser;
+
+    public JwtVerifier(Locator<Key> keyLocator, Set<String> allowedAlgorithms) {
+        this.tokenFormat = new JwtTokenFormat(allowedAlgorithms);
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyLocator)
+                .build();
+        this.accessTokenParser = Jwts.parser()
+                .keyLocator(keyLocator)
+                .require("type", "access")
+                .build();
+    }
+
+    public static JwtVerifier fromJwksUri(URI jwksUri) {
+        return new JwtVerifier(JwksKeyLocator.remote(jwksUri, Duration.ofMinutes(1)), ASYMMETRIC_ALGORITHMS);
+    }
+
+    public static JwtVerifier fromJwks(String jwksJson) {
+        return new JwtVerifier(JwksKeyLocator.of(jwksJson), ASYMMETRIC_ALGORITHMS);
+    }
+
+    public JwtClaims verify(String token) {
+        return parse(jwtParser, token);
+    }
+
+    /**
+     * verify와 같지만 type 클레임이 access가 아니면 MissingClaimException/IncorrectClaimException을 던집니다.
+     */
+    public JwtClaims verifyAccessToken(String token) {
+        return parse(accessTokenParser, token);
+    }
+
+    private JwtClaims parse(JwtParser parser, String token) {
+        tokenFormat.verify(token);
+        Claims claims = parser
+                .parseSignedClaims(token)
+                .getPayload();
+
+        return JwtClaims.from(claims);
+    }
+}
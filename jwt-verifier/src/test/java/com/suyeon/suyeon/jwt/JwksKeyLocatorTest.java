@@ -0,0 +1,146 @@
+package com.suyeon.suyeon.jwt;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwksKeyLocatorTest {
+
+    private final KeyPair oldKeyPair = Jwts.SIG.ES256.keyPair().build();
+    private final KeyPair newKeyPair = Jwts.SIG.ES256.keyPair().build();
+    private final AtomicReference<String> jwks = new AtomicReference<>();
+    private final AtomicReference<String> cacheControl = new AtomicReference<>("max-age=0");
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private URI jwksUri;
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            requests.incrementAndGet();
+            byte[] body = jwks.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", cacheControl.get());
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        jwksUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/.well-known/jwks.json");
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        server.stop(0);
+    }
+
+    @Test
+    public void locate_ShouldRejectKid_WhenKeyIsRemovedFromJwksAfterMaxAge()
+    {
+        jwks.set(jwks(jwk("old", oldKeyPair), jwk("new", newKeyPair)));
+        JwtVerifier verifier = verifier();
+        String oldToken = token("old", oldKeyPair);
+
+        assertEquals("testMember", verifier.verifyAccessToken(oldToken).username());
+
+        // 회원 서비스가 유출된 키를 내리면 max-age(여기서는 0)가 지난 뒤 다시 받아온 목록에서 사라집니다.
+        jwks.set(jwks(jwk("new", newKeyPair)));
+
+        assertThrows(MalformedJwtException.class, () -> verifier.verifyAccessToken(oldToken));
+        assertEquals("testMember", verifier.verifyAccessToken(token("new", newKeyPair)).username());
+    }
+
+    @Test
+    public void locate_ShouldReuseKeys_WhileMaxAgeHasNotPassed()
+    {
+        jwks.set(jwks(jwk("old", oldKeyPair)));
+        cacheControl.set("max-age=300, public");
+        JwtVerifier verifier = verifier();
+        String token = token("old", oldKeyPair);
+
+        verifier.verifyAccessToken(token);
+        verifier.verifyAccessToken(token);
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void locate_ShouldThrowJwtException_WhenJwksIsUnavailable()
+    {
+        jwks.set(jwks(jwk("old", oldKeyPair)));
+        JwtVerifier verifier = verifier();
+        String token = token("old", oldKeyPair);
+        verifier.verifyAccessToken(token);
+
+        server.stop(0);
+
+        JwtException e = assertThrows(JwtException.class, () -> verifier.verifyAccessToken(token));
+        assertInstanceOf(JwksUnavailableException.class, e);
+    }
+
+    private JwtVerifier verifier()
+    {
+        return new JwtVerifier(JwksKeyLocator.remote(jwksUri, Duration.ZERO), JwtVerifier.ASYMMETRIC_ALGORITHMS);
+    }
+
+    private static String token(String kid, KeyPair keyPair)
+    {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .claim("username", "testMember")
+                .claim("type", "access")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 60_000L))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.ES256)
+                .compact();
+    }
+
+    private static String jwks(String... keys)
+    {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static String jwk(String kid, KeyPair keyPair)
+    {
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"kty\":\"EC\",\"crv\":\"P-256\""
+                + ",\"x\":\"" + encoder.encodeToString(unsigned(publicKey.getW().getAffineX())) + "\""
+                + ",\"y\":\"" + encoder.encodeToString(unsigned(publicKey.getW().getAffineY())) + "\""
+                + ",\"kid\":\"" + kid + "\",\"alg\":\"ES256\",\"use\":\"sig\"}";
+    }
+
+    private static byte[] unsigned(BigInteger value)
+    {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[32];
+        int copy = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - copy, result, 32 - copy, copy);
+        return result;
+    }
+}
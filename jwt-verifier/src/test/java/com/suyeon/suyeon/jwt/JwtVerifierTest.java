@@ -0,0 +1,125 @@
+package com.suyeon.suyeon.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtVerifierTest {
+
+    private static final String KID = "2025-06";
+
+    private final KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+    private final JwtVerifier verifier = JwtVerifier.fromJwks(jwks(KID, (ECPublicKey) keyPair.getPublic()));
+
+    @Test
+    public void verifyAccessToken_ShouldReturnClaims_WhenAccessTokenIsValid()
+    {
+        String token = token(KID, keyPair.getPrivate(), "access", 60_000L);
+
+        JwtClaims claims = verifier.verifyAccessToken(token);
+
+        assertEquals("testMember", claims.username());
+        assertTrue(claims.isAccessToken());
+    }
+
+    @Test
+    public void verifyAccessToken_ShouldReject_WhenTypeIsNotAccess()
+    {
+        String refreshToken = token(KID, keyPair.getPrivate(), "refresh", 60_000L);
+
+        assertThrows(IncorrectClaimException.class, () -> verifier.verifyAccessToken(refreshToken));
+        assertEquals("refresh", verifier.verify(refreshToken).type());
+    }
+
+    @Test
+    public void verifyAccessToken_ShouldReject_WhenAlgorithmIsNotAllowed()
+    {
+        String hmacToken = Jwts.builder()
+                .header().keyId(KID).and()
+                .claim("username", "testMember")
+                .claim("type", "access")
+                .expiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(Keys.hmacShaKeyFor("cef2660faf36986dca4d1c4b5850eaf0".getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+
+        assertThrows(UnsupportedJwtException.class, () -> verifier.verifyAccessToken(hmacToken));
+    }
+
+    @Test
+    public void verifyAccessToken_ShouldReject_WhenAlgorithmDiffersFromKid()
+    {
+        KeyPair es384 = Jwts.SIG.ES384.keyPair().build();
+        String token = Jwts.builder()
+                .header().keyId(KID).and()
+                .claim("username", "testMember")
+                .claim("type", "access")
+                .expiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(es384.getPrivate(), Jwts.SIG.ES384)
+                .compact();
+
+        assertThrows(UnsupportedJwtException.class, () -> verifier.verifyAccessToken(token));
+    }
+
+    @Test
+    public void verifyAccessToken_ShouldReject_WhenTokenIsExpired()
+    {
+        String expiredToken = token(KID, keyPair.getPrivate(), "access", -60_000L);
+
+        assertThrows(ExpiredJwtException.class, () -> verifier.verifyAccessToken(expiredToken));
+    }
+
+    @Test
+    public void verifyAccessToken_ShouldReject_WhenKidIsUnknown()
+    {
+        KeyPair otherKeyPair = Jwts.SIG.ES256.keyPair().build();
+        String token = token("unknown", otherKeyPair.getPrivate(), "access", 60_000L);
+
+        assertThrows(MalformedJwtException.class, () -> verifier.verifyAccessToken(token));
+    }
+
+    private static String token(String kid, PrivateKey privateKey, String type, long expiredMs)
+    {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .claim("username", "testMember")
+                .claim("type", type)
+                .issuer("suyeon")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiredMs))
+                .signWith(privateKey, Jwts.SIG.ES256)
+                .compact();
+    }
+
+    private static String jwks(String kid, ECPublicKey publicKey)
+    {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"keys\":[{\"kty\":\"EC\",\"crv\":\"P-256\""
+                + ",\"x\":\"" + encoder.encodeToString(unsigned(publicKey.getW().getAffineX())) + "\""
+                + ",\"y\":\"" + encoder.encodeToString(unsigned(publicKey.getW().getAffineY())) + "\""
+                + ",\"kid\":\"" + kid + "\",\"alg\":\"ES256\",\"use\":\"sig\"}]}";
+    }
+
+    private static byte[] unsigned(BigInteger value)
+    {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[32];
+        int copy = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - copy, result, 32 - copy, copy);
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+// 프로필 조회와 로그인 트래픽의 처리량/지연 시간(p99)을 측정하는 k6 스크립트입니다.
+// 플랫폼 스레드 모드와 가상 스레드 모드(virtual 프로필)에서 같은 옵션으로 각각 실행해 비교합니다.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 loadtest/member-load.js
+//   k6 run -e PROFILE_RATE=3000 -e SIGN_RATE=200 -e DURATION=3m loadtest/member-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = Number(__ENV.USERS || 200);
+const DURATION = __ENV.DURATION || '2m';
+const PASSWORD = 'Password1!';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        profile: {
+            executor: 'constant-arrival-rate',
+            exec: 'profile',
+            rate: Number(__ENV.PROFILE_RATE || 2000),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+        sign: {
+            executor: 'constant-arrival-rate',
+            exec: 'sign',
+            rate: Number(__ENV.SIGN_RATE || 100),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 1000,
+        },
+    },
+    // 시나리오별 p99가 요약에 따로 나오도록 태그별 임계값을 둡니다.
+    thresholds: {
+        'http_req_duration{scenario:profile}': ['p(99)<200'],
+        'http_req_duration{scenario:sign}': ['p(99)<2000'],
+        'http_req_failed{scenario:profile}': ['rate<0.01'],
+        'http_req_failed{scenario:sign}': ['rate<0.01'],
+    },
+};
+
+function username(i) {
+    return `load-user-${i}`;
+}
+
+export function setup() {
+    const tokens = [];
+    for (let i = 0; i < USERS; i++) {
+        http.post(`${BASE_URL}/api/members/signup`,
+            JSON.stringify({ username: username(i), password: PASSWORD, nickname: `nick-${i}` }),
+            JSON_HEADERS);
+
+        const res = http.post(`${BASE_URL}/api/members/sign`,
+            JSON.stringify({ username: username(i), password: PASSWORD }),
+            JSON_HEADERS);
+        tokens.push(res.json('token'));
+    }
+    return { tokens };
+}
+
+export function profile(data) {
+    const token = data.tokens[(__VU + __ITER) % data.tokens.length];
+    const res = http.get(`${BASE_URL}/api/members/profile`, {
+        headers: { Authorization: `Bearer ${token}` },
+    });
+    // 토큰 발급 후 30분이 지나면 갱신 구간(202)에 들어갑니다.
+    check(res, { 'profile 200/202': (r) => r.status === 200 || r.status === 202 });
+}
+
+export function sign() {
+    const i = (__VU * 31 + __ITER) % USERS;
+    const res = http.post(`${BASE_URL}/api/members/sign`,
+        JSON.stringify({ username: username(i), password: PASSWORD }),
+        JSON_HEADERS);
+    check(res, { 'sign 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,63 @@
+package com.suyeon.suyeon.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c";
+
+    private final FilterChain filterChain = (request, response) -> { };
+
+    private JwtFilter jwtFilter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET);
+        jwtFilter = new JwtFilter(jwtUtil, new JwtClaimsCache(jwtUtil, 10_000), new TokenDenylist(100_000, 0.01),
+                new AuthMetrics(new SimpleMeterRegistry()));
+        accessToken = jwtUtil.createJwt("testMember", "access", "suyeon", 60 * 60 * 1000L);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse validAccessToken() throws Exception {
+        return filter("Bearer " + accessToken);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse missingToken() throws Exception {
+        return filter(null);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse malformedToken() throws Exception {
+        return filter("Bearer not-a-token");
+    }
+
+    private MockHttpServletResponse filter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/profile");
+        request.setServletPath("/api/members/profile");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jwtFilter.doFilterInternal(request, response, filterChain);
+        return response;
+    }
+}
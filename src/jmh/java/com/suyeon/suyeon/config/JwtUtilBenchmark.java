@@ -0,0 +1,87 @@
+package com.suyeon.suyeon.config;
+
+import com.suyeon.suyeon.jwt.JwtClaims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c";
+
+    private JwtUtil jwtUtil;
+    private JwtUtil es256JwtUtil;
+    private SecretKey secretKey;
+    private String accessToken;
+    private String es256AccessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        accessToken = jwtUtil.createJwt("testMember", "access", "suyeon", 60 * 60 * 1000L);
+
+        KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+        es256JwtUtil = new JwtUtil(new JwtKeyRing(
+                new JwtKeyRing.SigningKey("bench", Jwts.SIG.ES256, keyPair.getPrivate()),
+                List.of(new JwtKeyRing.VerificationKey("bench", Jwts.SIG.ES256, keyPair.getPublic(), null)),
+                null));
+        es256AccessToken = es256JwtUtil.createJwt("testMember", "access", "suyeon", 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public String createJwt() {
+        return jwtUtil.createJwt("testMember", "access", "suyeon", 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public JwtClaims parseClaims() {
+        return jwtUtil.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public String createJwtEs256() {
+        return es256JwtUtil.createJwt("testMember", "access", "suyeon", 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public JwtClaims parseClaimsEs256() {
+        return es256JwtUtil.parseClaims(es256AccessToken);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtUtil.getUsername(accessToken);
+    }
+
+    @Benchmark
+    public Boolean isAccessToken() {
+        return jwtUtil.isAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Boolean isRefreshable() {
+        return jwtUtil.isRefreshable(accessToken);
+    }
+
+    /**
+     * 공유 JwtParser 도입 전의 방식(호출마다 parser를 새로 만드는 경우)과 비교하기 위한 기준값입니다.
+     */
+    @Benchmark
+    public Object parseWithNewParserPerCall() {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(accessToken)
+                .getPayload();
+    }
+}
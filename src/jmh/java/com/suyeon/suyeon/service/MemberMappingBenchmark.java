@@ -0,0 +1,55 @@
+package com.suyeon.suyeon.service;
+
+import com.suyeon.suyeon.dto.AuthorityDto;
+import com.suyeon.suyeon.dto.ProfileResponseDto;
+import com.suyeon.suyeon.dto.SignupResponseDto;
+import com.suyeon.suyeon.entity.Member;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private Member member;
+    private List<AuthorityDto> authorities;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+
+        member = new Member();
+        member.setId(1L);
+        member.setUsername("testMember");
+        member.setNickname("nickname");
+        member.setPassword("encodedPassword");
+        member.setRole("ROLE_USER");
+
+        authorities = List.of(new AuthorityDto("ROLE_USER"));
+    }
+
+    /**
+     * MemberService가 예전에 사용하던 ModelMapper 경로입니다. 아래의 정적 팩토리 메서드와 비교하기 위해 남겨둡니다.
+     */
+    @Benchmark
+    public SignupResponseDto modelMapperToSignupResponse() {
+        SignupResponseDto responseDto = modelMapper.map(member, SignupResponseDto.class);
+        responseDto.setAuthorities(authorities);
+        return responseDto;
+    }
+
+    @Benchmark
+    public SignupResponseDto factoryToSignupResponse() {
+        return SignupResponseDto.from(member, authorities);
+    }
+
+    @Benchmark
+    public ProfileResponseDto factoryToProfileResponse() {
+        return ProfileResponseDto.from(member);
+    }
+}
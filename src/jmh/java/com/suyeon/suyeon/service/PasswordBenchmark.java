@@ -0,0 +1,50 @@
+package com.suyeon.suyeon.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * passwordPolicy는 gc 프로파일러의 gc.alloc.rate.norm 값이 0 B/op 이어야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PasswordBenchmark {
+
+    private static final String PASSWORD = "Password1!";
+    private static final String LEGACY_REGEX =
+            "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$";
+
+    private PasswordPolicy passwordPolicy;
+    private BCryptPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordPolicy = new PasswordPolicy();
+        passwordEncoder = new BCryptPasswordEncoder();
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean passwordPolicy() {
+        return passwordPolicy.isValid(PASSWORD);
+    }
+
+    /**
+     * PasswordPolicy 도입 전 signup에서 매번 정규식을 컴파일하던 방식입니다.
+     */
+    @Benchmark
+    public boolean legacyRegex() {
+        return Pattern.compile(LEGACY_REGEX).matcher(PASSWORD).matches();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
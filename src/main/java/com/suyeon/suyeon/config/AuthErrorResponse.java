@@ -0,0 +1,77 @@
+package com.suyeon.suyeon.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * JwtFilter(ReactiveJwtFilter)가 돌려주는 고정 에러 응답입니다.
+ * 응답 본문은 클래스 로딩 시 한 번만 직렬화해 두고, 요청마다 바이트 배열을 그대로 씁니다.
+ */
+public enum AuthErrorResponse {
+
+    TOKEN_MISSING("토큰이 없습니다! 토큰을 넣어서 인가해주세요!", HttpStatus.UNAUTHORIZED),
+    REFRESH_TOKEN_MISSING("Refresh Token이 없습니다! 재로그인하세요!", HttpStatus.UNAUTHORIZED),
+    TOKEN_USER_MISMATCH("Refresh Token 사용자와 Access Token 사용자가 불일치합니다! 재로그인하세요!", HttpStatus.UNAUTHORIZED),
+    ACCESS_TOKEN_REQUIRED("Access Token을 사용했는지 확인하시거나 만료되었는지를 확인하세요!", HttpStatus.FORBIDDEN),
+    MALFORMED_TOKEN("손상된 토큰입니다! 다시 로그인하세요!", HttpStatus.UNAUTHORIZED),
+    EXPIRED_TOKEN("만료된 토큰입니다! 다시 로그인하세요!", HttpStatus.UNAUTHORIZED),
+    REVOKED_TOKEN("로그아웃되었거나 폐기된 토큰입니다! 다시 로그인하세요!", HttpStatus.UNAUTHORIZED),
+    UNSUPPORTED_TOKEN("지원하지 않는 토큰입니다!", HttpStatus.BAD_REQUEST),
+    EMPTY_CLAIMS("클레임이 비어있는 토큰입니다!", HttpStatus.BAD_REQUEST),
+    UNKNOWN_ERROR("알 수 없는 오류가 발생했습니다!", HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private final String message;
+    private final HttpStatus status;
+    private final byte[] body;
+
+    AuthErrorResponse(String message, HttpStatus status) {
+        this.message = message;
+        this.status = status;
+        this.body = Json.serialize(message);
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public void writeTo(HttpServletResponse response) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static final class Json {
+
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+        private static byte[] serialize(String message) {
+            try {
+                return OBJECT_MAPPER.writeValueAsBytes(Map.of("message", message));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
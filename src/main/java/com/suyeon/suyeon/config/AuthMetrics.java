@@ -0,0 +1,51 @@
+package com.suyeon.suyeon.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * JwtFilter(ReactiveJwtFilter)의 메트릭입니다.
+ * 거절 사유별 카운터는 시작 시 모두 등록해 두어 요청마다 태그로 미터를 찾지 않습니다.
+ */
+@Component
+public class AuthMetrics {
+
+    private final Timer parseTimer;
+    private final Counter refreshWindowCounter;
+    private final Map<AuthErrorResponse, Counter> rejectionCounters = new EnumMap<>(AuthErrorResponse.class);
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        // 캐시에 있는 토큰과 서명을 새로 검증한 토큰이 함께 기록됩니다. 적중률은 jwt.claims 캐시 메트릭으로 봅니다.
+        this.parseTimer = Timer.builder("auth.token.parse")
+                .description("클레임 조회 시간 (캐시 미스면 형식 확인과 서명 검증 포함)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.refreshWindowCounter = Counter.builder("auth.token.refresh.window")
+                .description("갱신 구간(202)에 들어온 Access Token 요청 수")
+                .register(meterRegistry);
+        for (AuthErrorResponse error : AuthErrorResponse.values()) {
+            rejectionCounters.put(error, Counter.builder("auth.rejections")
+                    .tag("reason", error.name())
+                    .tag("status", String.valueOf(error.getStatus().value()))
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T> T recordParse(Supplier<T> parse) {
+        return parseTimer.record(parse);
+    }
+
+    public void refreshWindow() {
+        refreshWindowCounter.increment();
+    }
+
+    public void rejected(AuthErrorResponse error) {
+        rejectionCounters.get(error).increment();
+    }
+}
@@ -0,0 +1,16 @@
+package com.suyeon.suyeon.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 캐시 인터셉터가 트랜잭션보다 먼저 실행되도록 순서를 지정합니다.
+ * 캐시 적중 시에는 트랜잭션(DB 커넥션)을 열지 않습니다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String PROFILE_CACHE = "profile";
+}
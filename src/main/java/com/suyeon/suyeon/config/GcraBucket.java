@@ -0,0 +1,51 @@
+package com.suyeon.suyeon.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm)로 구현한 토큰 버킷입니다.
+ * 남은 토큰 수 대신 "다음 요청이 허용되는 이론적 도착 시각(TAT)" 하나만 AtomicLong으로 저장하므로
+ * 락이나 리필 스레드 없이 CAS 한 번으로 허용 여부를 결정합니다.
+ * period 동안 capacity개의 요청을 허용하며, 버킷이 가득 찬 상태에서는 capacity개까지 한 번에 보낼 수 있습니다.
+ */
+public final class GcraBucket {
+
+    private final long emissionIntervalNanos;
+    private final long periodNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    public GcraBucket(int capacity, long periodNanos, long nowNanos) {
+        if (capacity <= 0 || periodNanos <= 0) {
+            throw new IllegalArgumentException("capacity와 period는 0보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = periodNanos / capacity;
+        this.periodNanos = periodNanos;
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 사용합니다. 허용되면 0을, 거절되면 다시 시도할 수 있을 때까지 남은 나노초를 반환합니다.
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long tat = Math.max(current, nowNanos);
+            long next = tat + emissionIntervalNanos;
+            long waitNanos = next - periodNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire로 사용한 토큰 하나를 돌려줍니다. 이어지는 다른 버킷 확인에서 요청이 거절되었을 때 사용합니다.
+     * TAT가 현재 시각보다 과거로 내려가더라도 tryAcquire가 max(TAT, now)를 쓰므로 용량을 넘어 쌓이지 않습니다.
+     */
+    public void release() {
+        theoreticalArrivalTime.addAndGet(-emissionIntervalNanos);
+    }
+}
@@ -0,0 +1,14 @@
+package com.suyeon.suyeon.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * reactive 프로필은 JPA 자동 설정을 제외하므로 JPA Auditing도 서블릿 스택에서만 켭니다.
+ */
+@Configuration
+@EnableJpaAuditing
+@Profile("!reactive")
+public class JpaConfig {
+}
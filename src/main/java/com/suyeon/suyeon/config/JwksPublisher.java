@@ -0,0 +1,125 @@
+package com.suyeon.suyeon.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JwtKeyRing의 검증용 공개 키를 JWKS(RFC 7517) 문서로 만들어 둡니다.
+ * 키 목록은 시작 시점에 고정되므로 문서와 ETag를 한 번만 계산하고,
+ * verify-until이 지난 키가 생길 때만 다시 만듭니다. HS256 비밀 키는 공개하지 않습니다.
+ */
+@Component
+public class JwksPublisher {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JwtKeyRing keyRing;
+    private volatile Document document;
+
+    public JwksPublisher(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.document = build(Instant.now());
+    }
+
+    public Document current() {
+        Document current = document;
+        Instant now = Instant.now();
+        if (current.validUntil() != null && now.isAfter(current.validUntil())) {
+            current = build(now);
+            document = current;
+        }
+        return current;
+    }
+
+    private Document build(Instant now) {
+        List<JwtKeyRing.VerificationKey> keys = new ArrayList<>(keyRing.verificationKeys());
+        keys.sort(Comparator.comparing(JwtKeyRing.VerificationKey::kid));
+
+        List<Map<String, String>> jwks = new ArrayList<>();
+        Instant validUntil = null;
+        for (JwtKeyRing.VerificationKey key : keys) {
+            Instant verifyUntil = key.verifyUntil();
+            if (verifyUntil != null) {
+                if (now.isAfter(verifyUntil)) {
+                    continue;
+                }
+                validUntil = validUntil == null || verifyUntil.isBefore(validUntil) ? verifyUntil : validUntil;
+            }
+            jwks.add(toJwk(key));
+        }
+
+        byte[] body;
+        try {
+            body = OBJECT_MAPPER.writeValueAsBytes(Map.of("keys", jwks));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return new Document(new String(body, StandardCharsets.UTF_8), etag(body), validUntil);
+    }
+
+    private static Map<String, String> toJwk(JwtKeyRing.VerificationKey key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        PublicKey publicKey = key.publicKey();
+        if (publicKey instanceof ECPublicKey ecPublicKey) {
+            int fieldSize = ecPublicKey.getParams().getCurve().getField().getFieldSize();
+            int length = (fieldSize + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("crv", fieldSize == 521 ? "P-521" : "P-" + fieldSize);
+            jwk.put("x", BASE64_URL.encodeToString(unsigned(ecPublicKey.getW().getAffineX(), length)));
+            jwk.put("y", BASE64_URL.encodeToString(unsigned(ecPublicKey.getW().getAffineY(), length)));
+        } else if (publicKey instanceof EdECPublicKey edPublicKey) {
+            // X.509 인코딩의 마지막 바이트들이 RFC 8037의 원시 공개 키입니다.
+            String curve = edPublicKey.getParams().getName();
+            int length = curve.equals("Ed448") ? 57 : 32;
+            byte[] encoded = edPublicKey.getEncoded();
+            byte[] raw = new byte[length];
+            System.arraycopy(encoded, encoded.length - length, raw, 0, length);
+            jwk.put("kty", "OKP");
+            jwk.put("crv", curve);
+            jwk.put("x", BASE64_URL.encodeToString(raw));
+        } else {
+            throw new IllegalStateException("JWK로 공개할 수 없는 키입니다 : " + key.kid());
+        }
+        jwk.put("kid", key.kid());
+        jwk.put("alg", key.algorithm().getId());
+        jwk.put("use", "sig");
+        return jwk;
+    }
+
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, result, length - copy, copy);
+        return result;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + BASE64_URL.encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Document(String json, String etag, Instant validUntil) {
+    }
+}
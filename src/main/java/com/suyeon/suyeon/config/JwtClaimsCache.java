@@ -0,0 +1,87 @@
+package com.suyeon.suyeon.config;
+
+import com.suyeon.suyeon.jwt.JwtClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 토큰의 클레임을 토큰 문자열 기준으로 보관하는 캐시입니다.
+ * 각 엔트리는 토큰의 exp 시점에 만료되고, 최대 크기를 넘으면 W-TinyLFU 정책으로 제거됩니다.
+ * 적중률은 cache.gets{cache="jwt.claims"} 메트릭으로 노출됩니다.
+ */
+@Component
+public class JwtClaimsCache implements MeterBinder {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtClaims> cache;
+
+    public JwtClaimsCache(JwtUtil jwtUtil, @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없으면 서명을 검증한 뒤 저장합니다.
+     * 검증에 실패한 토큰은 저장되지 않고 jjwt 예외가 그대로 전달됩니다.
+     */
+    public JwtClaims get(String token) {
+        return cache.get(token, jwtUtil::parseClaims);
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(token);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.claims");
+    }
+
+    private static class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String token, JwtClaims claims, long currentTime) {
+            long remainingMillis = claims.expiration() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
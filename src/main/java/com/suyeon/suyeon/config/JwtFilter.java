@@ -1,12 +1,11 @@
 package com.suyeon.suyeon.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suyeon.suyeon.jwt.JwtClaims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
@@ -14,20 +13,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final TokenDenylist tokenDenylist;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(
@@ -43,46 +44,44 @@ public class JwtFilter extends OncePerRequestFilter {
             String token = jwtUtil.resolveToken(request);
 
             if (token == null) {
-                sendErrorResponse(response, "토큰이 없습니다! 토큰을 넣어서 인가해주세요!", HttpStatus.UNAUTHORIZED);
+                sendErrorResponse(response, AuthErrorResponse.TOKEN_MISSING);
                 return;
             }
 
-            if (!jwtUtil.isAccessToken(token)) {
-                String refreshToken = getRefreshTokenCookie(request);
-                if (refreshToken == null) {
-                    sendErrorResponse(response, "Refresh Token이 없습니다! 재로그인하세요!", HttpStatus.UNAUTHORIZED);
-                    return;
-                }
+            // 형식 검사(verifyFormat)는 캐시 미스일 때 parseClaims 안에서만 실행됩니다.
+            JwtClaims claims = authMetrics.recordParse(() -> jwtClaimsCache.get(token));
 
-                if (jwtUtil.isExpired(token))
-                {
-                    sendErrorResponse(response, "Refresh Token이 만료되었습니다! 재로그인하세요!", HttpStatus.UNAUTHORIZED);
+            if (tokenDenylist.isRevoked(claims.id())) {
+                sendErrorResponse(response, AuthErrorResponse.REVOKED_TOKEN);
+                return;
+            }
+
+            if (!claims.isAccessToken()) {
+                String refreshToken = jwtUtil.resolveRefreshToken(request);
+                if (refreshToken == null) {
+                    sendErrorResponse(response, AuthErrorResponse.REFRESH_TOKEN_MISSING);
                     return;
                 }
 
-                if (jwtUtil.getUsername(token).equals(jwtUtil.getUsername(refreshToken)))
+                if (!claims.username().equals(jwtUtil.parseClaims(refreshToken).username()))
                 {
-                    sendErrorResponse(response, "Refresh Token 사용자와 Access Token 사용자가 불일치합니다! 재로그인하세요!", HttpStatus.UNAUTHORIZED);
+                    sendErrorResponse(response, AuthErrorResponse.TOKEN_USER_MISMATCH);
                     return;
                 }
 
-                sendErrorResponse(response, "Access Token을 사용했는지 확인하시거나 만료되었는지를 확인하세요!", HttpStatus.FORBIDDEN);
+                sendErrorResponse(response, AuthErrorResponse.ACCESS_TOKEN_REQUIRED);
                 return;
             }
 
-            jwtUtil.validateToken(token);
-
-            if (jwtUtil.isRefreshable(token)) {
-                String refreshToken = getRefreshTokenCookie(request);
+            if (claims.isRefreshable(System.currentTimeMillis())) {
+                String refreshToken = jwtUtil.resolveRefreshToken(request);
                 if (refreshToken == null) {
-                    sendErrorResponse(response, "Refresh Token이 없습니다! 재로그인하세요!", HttpStatus.UNAUTHORIZED);
+                    sendErrorResponse(response, AuthErrorResponse.REFRESH_TOKEN_MISSING);
                     return;
                 }
 
-                String username = jwtUtil.getUsername(token);
-                Authentication authentication =
-                        new UsernamePasswordAuthenticationToken(username, null, new ArrayList<>());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                authMetrics.refreshWindow();
+                setAuthentication(claims);
                 HttpServletResponseWrapper responseWrapper = new HttpServletResponseWrapper(response) {
                     @Override
                     public void setStatus(int sc) {
@@ -94,42 +93,43 @@ public class JwtFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String username = jwtUtil.getUsername(token);
-            Authentication authentication =
-                    new UsernamePasswordAuthenticationToken(username, null, new ArrayList<>());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            setAuthentication(claims);
             filterChain.doFilter(request, response);
 
         } catch (MalformedJwtException e) {
-            sendErrorResponse(response, "손상된 토큰입니다! 다시 로그인하세요!", HttpStatus.UNAUTHORIZED);
+            sendErrorResponse(response, AuthErrorResponse.MALFORMED_TOKEN);
         } catch (ExpiredJwtException e) {
-            sendErrorResponse(response, "만료된 토큰입니다! 다시 로그인하세요!", HttpStatus.UNAUTHORIZED);
+            sendErrorResponse(response, AuthErrorResponse.EXPIRED_TOKEN);
         } catch (UnsupportedJwtException e) {
-            sendErrorResponse(response, "지원하지 않는 토큰입니다!", HttpStatus.BAD_REQUEST);
+            sendErrorResponse(response, AuthErrorResponse.UNSUPPORTED_TOKEN);
         } catch (IllegalArgumentException e) {
-            sendErrorResponse(response, "클레임이 비어있는 토큰입니다!", HttpStatus.BAD_REQUEST);
+            sendErrorResponse(response, AuthErrorResponse.EMPTY_CLAIMS);
         } catch (Exception e) {
-            sendErrorResponse(response, "알 수 없는 오류가 발생했습니다!", HttpStatus.INTERNAL_SERVER_ERROR);
+            sendErrorResponse(response, AuthErrorResponse.UNKNOWN_ERROR);
         }
     }
 
-    private String getRefreshTokenCookie(HttpServletRequest request) {
-        if (request.getCookies() == null) {
-            return null;
-        }
+    private void setAuthentication(JwtClaims claims) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(claims.username(), null, authorities(claims));
+        // 로그아웃 시 jti와 exp가 필요하므로 검증된 클레임을 함께 넘깁니다.
+        authentication.setDetails(claims);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 
-        for (Cookie cookie : request.getCookies()) {
-            if ("refresh".equals(cookie.getName())) {
-                return cookie.getValue();
-            }
-        }
-        return null;
+    // role 클레임이 없는 토큰(이전에 발급된 토큰 포함)은 권한 없이 인증만 됩니다.
+    private static List<GrantedAuthority> authorities(JwtClaims claims) {
+        return claims.role() == null ? List.of() : List.of(new SimpleGrantedAuthority(claims.role()));
     }
 
     private boolean isExemptPath(String servletPath) {
         return servletPath.startsWith("/api/members/signup")
                 || servletPath.equals("/api/members/sign")
+                || servletPath.equals("/api/members/refresh")
                 || servletPath.equals("/health")
+                || servletPath.equals("/actuator/health")
+                || servletPath.equals("/actuator/prometheus")
+                || servletPath.equals("/.well-known/jwks.json")
                 || servletPath.startsWith("/favicon.ico")
                 || servletPath.startsWith("/swagger-ui/")
                 || servletPath.startsWith("/swagger-ui.html")
@@ -137,15 +137,8 @@ public class JwtFilter extends OncePerRequestFilter {
                 ;
     }
 
-    private void sendErrorResponse(HttpServletResponse response, String message, HttpStatus status) throws IOException {
-        response.setStatus(status.value());
-        response.setCharacterEncoding("UTF-8");
-        response.setContentType("application/json");
-
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("message", message);
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        response.getWriter().write(objectMapper.writeValueAsString(responseBody));
+    private void sendErrorResponse(HttpServletResponse response, AuthErrorResponse error) throws IOException {
+        authMetrics.rejected(error);
+        error.writeTo(response);
     }
 }
@@ -0,0 +1,16 @@
+package com.suyeon.suyeon.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JwtKeyProperties.class)
+public class JwtKeyConfig {
+
+    @Bean
+    public JwtKeyRing jwtKeyRing(JwtKeyProperties properties, @Value("${jwt.secret:}") String secret) {
+        return JwtKeyRing.load(properties, secret);
+    }
+}
@@ -0,0 +1,75 @@
+package com.suyeon.suyeon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * jwt.keys 아래의 서명 키 목록입니다. 키가 여러 개라 @Value 대신 목록 바인딩을 사용합니다.
+ *
+ * <pre>
+ * jwt:
+ *   keys:
+ *     active-kid: 2025-06
+ *     ring:
+ *       - kid: 2025-06
+ *         algorithm: ES256
+ *         private-key: file:/etc/suyeon/jwt/2025-06.pem
+ *         public-key: file:/etc/suyeon/jwt/2025-06.pub.pem
+ *       - kid: 2025-01
+ *         algorithm: ES256
+ *         public-key: file:/etc/suyeon/jwt/2025-01.pub.pem
+ *         verify-until: 2025-09-30T00:00:00Z
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.keys")
+public class JwtKeyProperties {
+
+    /**
+     * 새 토큰에 서명할 키의 kid입니다. 비워 두면 jwt.secret 기반 HS256으로 서명합니다.
+     */
+    private String activeKid;
+
+    /**
+     * kid가 없는 토큰(HS256, jwt.secret)을 계속 검증할지 여부입니다.
+     * 비대칭 키로 전환한 뒤 기존 토큰이 모두 만료되면 false로 바꿉니다.
+     */
+    private boolean hmacFallback = true;
+
+    private List<Key> ring = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+
+        private String kid;
+
+        /**
+         * ES256, ES384, ES512, EdDSA 중 하나입니다.
+         */
+        private String algorithm = "ES256";
+
+        /**
+         * PKCS#8 PEM 개인 키입니다. 검증에만 쓰는 키는 비워 둡니다.
+         */
+        private Resource privateKey;
+
+        /**
+         * X.509 PEM 공개 키입니다.
+         */
+        private Resource publicKey;
+
+        /**
+         * 이 시각 이후에는 이 키로 서명된 토큰을 받지 않습니다. 비워 두면 제한이 없습니다.
+         * 교체 전 키는 마지막으로 발급한 토큰의 만료 시각까지 남겨 둡니다.
+         */
+        private Instant verifyUntil;
+    }
+}
@@ -0,0 +1,238 @@
+package com.suyeon.suyeon.config;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.springframework.core.io.Resource;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * kid로 찾는 JWT 서명/검증 키 모음입니다.
+ * 공개 키는 시작할 때 한 번만 파싱해 kid를 키로 하는 Map에 넣어 두고, 검증 시에는 헤더의 kid로 바로 찾습니다.
+ * kid가 없는 토큰은 jwt.secret 기반 HS256 키로 검증합니다(hmac-fallback).
+ */
+public class JwtKeyRing {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final SecureDigestAlgorithm<?, ?> HMAC_ALGORITHM = Jwts.SIG.HS256;
+
+    private final SigningKey signingKey;
+    private final Map<String, VerificationKey> verificationKeys;
+    private final SecretKey hmacKey;
+    private final Set<String> algorithms;
+    private final KeyLocator keyLocator = new KeyLocator();
+
+    public JwtKeyRing(SigningKey signingKey, Collection<VerificationKey> verificationKeys, SecretKey hmacKey) {
+        Map<String, VerificationKey> byKid = new HashMap<>();
+        Set<String> algorithms = new LinkedHashSet<>();
+        for (VerificationKey key : verificationKeys) {
+            if (byKid.put(key.kid(), key) != null) {
+                throw new IllegalStateException("중복된 kid입니다 : " + key.kid());
+            }
+            algorithms.add(key.algorithm().getId());
+        }
+        if (hmacKey != null) {
+            algorithms.add(HMAC_ALGORITHM.getId());
+        }
+        if (signingKey.kid() != null && !byKid.containsKey(signingKey.kid())) {
+            throw new IllegalStateException("서명 키의 공개 키가 없습니다 : " + signingKey.kid());
+        }
+
+        this.signingKey = signingKey;
+        this.verificationKeys = Map.copyOf(byKid);
+        this.hmacKey = hmacKey;
+        this.algorithms = Set.copyOf(algorithms);
+    }
+
+    /**
+     * jwt.secret 하나로 HS256 서명과 검증을 모두 처리하는 키 모음입니다.
+     */
+    public static JwtKeyRing hmac(String secret) {
+        SecretKey secretKey = hmacKey(secret);
+        return new JwtKeyRing(new SigningKey(null, HMAC_ALGORITHM, secretKey), Set.of(), secretKey);
+    }
+
+    public static JwtKeyRing load(JwtKeyProperties properties, String secret) {
+        boolean hasSecret = secret != null && !secret.isBlank();
+        SecretKey secretKey = hasSecret ? hmacKey(secret) : null;
+
+        Map<String, PrivateKey> privateKeys = new HashMap<>();
+        Set<VerificationKey> verificationKeys = new LinkedHashSet<>();
+        for (JwtKeyProperties.Key key : properties.getRing()) {
+            if (key.getKid() == null || key.getKid().isBlank()) {
+                throw new IllegalStateException("jwt.keys.ring의 kid는 비어 있을 수 없습니다.");
+            }
+            if (key.getPublicKey() == null) {
+                throw new IllegalStateException("공개 키 파일이 없습니다 : " + key.getKid());
+            }
+
+            SignatureAlgorithm algorithm = signatureAlgorithm(key.getAlgorithm());
+            String keyAlgorithm = keyFactoryAlgorithm(algorithm);
+            verificationKeys.add(new VerificationKey(
+                    key.getKid(), algorithm, readPublicKey(key.getPublicKey(), keyAlgorithm), key.getVerifyUntil()));
+            if (key.getPrivateKey() != null) {
+                privateKeys.put(key.getKid(), readPrivateKey(key.getPrivateKey(), keyAlgorithm));
+            }
+        }
+
+        String activeKid = properties.getActiveKid();
+        SigningKey signingKey;
+        if (activeKid == null || activeKid.isBlank()) {
+            if (secretKey == null) {
+                throw new IllegalStateException("jwt.keys.active-kid나 jwt.secret 중 하나는 설정해야 합니다.");
+            }
+            signingKey = new SigningKey(null, HMAC_ALGORITHM, secretKey);
+        } else {
+            PrivateKey privateKey = privateKeys.get(activeKid);
+            if (privateKey == null) {
+                throw new IllegalStateException("서명 키의 개인 키가 없습니다 : " + activeKid);
+            }
+            VerificationKey active = verificationKeys.stream()
+                    .filter(key -> key.kid().equals(activeKid))
+                    .findFirst()
+                    .orElseThrow();
+            signingKey = new SigningKey(activeKid, active.algorithm(), privateKey);
+        }
+
+        SecretKey fallbackKey = signingKey.kid() == null || properties.isHmacFallback() ? secretKey : null;
+        return new JwtKeyRing(signingKey, verificationKeys, fallbackKey);
+    }
+
+    public SigningKey signingKey() {
+        return signingKey;
+    }
+
+    public Collection<VerificationKey> verificationKeys() {
+        return verificationKeys.values();
+    }
+
+    /**
+     * JwtTokenFormat이 서명 검증 전에 허용할 alg 목록입니다.
+     */
+    public Set<String> algorithms() {
+        return algorithms;
+    }
+
+    public LocatorAdapter<Key> keyLocator() {
+        return keyLocator;
+    }
+
+    Key verificationKey(String kid, String algorithm) {
+        if (kid == null) {
+            if (hmacKey == null) {
+                throw new MalformedJwtException("kid가 없는 토큰은 더 이상 허용하지 않습니다.");
+            }
+            if (!HMAC_ALGORITHM.getId().equals(algorithm)) {
+                throw new UnsupportedJwtException("지원하지 않는 서명 알고리즘입니다 : " + algorithm);
+            }
+            return hmacKey;
+        }
+
+        VerificationKey key = verificationKeys.get(kid);
+        if (key == null || (key.verifyUntil() != null && Instant.now().isAfter(key.verifyUntil()))) {
+            throw new MalformedJwtException("등록되지 않았거나 사용 기간이 지난 서명 키입니다 : " + kid);
+        }
+        if (!key.algorithm().getId().equals(algorithm)) {
+            throw new UnsupportedJwtException("kid에 등록된 알고리즘과 다릅니다 : " + algorithm);
+        }
+        return key.publicKey();
+    }
+
+    private static SecretKey hmacKey(String secret) {
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_SHA256);
+    }
+
+    private static SignatureAlgorithm signatureAlgorithm(String id) {
+        SecureDigestAlgorithm<?, ?> algorithm = Jwts.SIG.get().get(id);
+        if (!(algorithm instanceof SignatureAlgorithm signatureAlgorithm)) {
+            throw new IllegalStateException("비대칭 서명 알고리즘이 아닙니다 : " + id);
+        }
+        return signatureAlgorithm;
+    }
+
+    private static String keyFactoryAlgorithm(SignatureAlgorithm algorithm) {
+        String id = algorithm.getId();
+        if (id.startsWith("ES")) {
+            return "EC";
+        }
+        if (id.equals("EdDSA")) {
+            return "EdDSA";
+        }
+        throw new IllegalStateException("지원하지 않는 서명 알고리즘입니다 : " + id);
+    }
+
+    private static PublicKey readPublicKey(Resource resource, String keyAlgorithm) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm)
+                    .generatePublic(new X509EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("공개 키를 읽을 수 없습니다 : " + resource, e);
+        }
+    }
+
+    private static PrivateKey readPrivateKey(Resource resource, String keyAlgorithm) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm)
+                    .generatePrivate(new PKCS8EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("개인 키를 읽을 수 없습니다 : " + resource, e);
+        }
+    }
+
+    /**
+     * "-----BEGIN ...-----" 줄과 공백을 걷어내고 본문만 Base64로 디코딩합니다.
+     */
+    private static byte[] readPem(Resource resource) {
+        String pem;
+        try (InputStream in = resource.getInputStream()) {
+            pem = new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            throw new IllegalStateException("키 파일을 읽을 수 없습니다 : " + resource, e);
+        }
+
+        StringBuilder body = new StringBuilder(pem.length());
+        for (String line : pem.split("\\R")) {
+            if (!line.startsWith("-----")) {
+                body.append(line.strip());
+            }
+        }
+        return Base64.getDecoder().decode(body.toString());
+    }
+
+    public record SigningKey(String kid, SecureDigestAlgorithm<?, ?> algorithm, Key key) {
+    }
+
+    public record VerificationKey(String kid, SignatureAlgorithm algorithm, PublicKey publicKey, Instant verifyUntil) {
+    }
+
+    private class KeyLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            return verificationKey(header.getKeyId(), header.getAlgorithm());
+        }
+    }
+}
@@ -1,49 +1,132 @@
 package com.suyeon.suyeon.config;
 
+import com.suyeon.suyeon.jwt.JwtClaims;
+import com.suyeon.suyeon.jwt.JwtTokenFormat;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Enumeration;
+import java.util.UUID;
 
 import io.jsonwebtoken.Jwts;
 
 @Component
 public class JwtUtil {
 
-    private SecretKey secretKey;
+    public static final String REFRESH_COOKIE = "refresh";
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
+    // MemberService와 ReactiveMemberService가 같은 수명과 쿠키 속성으로 토큰을 발급하도록 여기서 한 번만 정의합니다.
+    public static final long ACCESS_TOKEN_VALIDITY_DURATION = 60 * 60 * 1000L;
+    public static final long REFRESH_TOKEN_VALIDITY_DURATION = 90 * 24 * 60 * 60 * 1000L;
+    private static final Duration REFRESH_COOKIE_MAX_AGE = Duration.ofDays(7);
 
-        secretKey =
-                new SecretKeySpec(
-                        secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+    private static final String BEARER = "Bearer";
+
+    private final JwtKeyRing keyRing;
+
+    // JwtParser는 불변이고 스레드 안전하므로 시작 시 한 번만 만들어 모든 요청에서 공유합니다.
+    // 검증 키는 헤더의 kid로 JwtKeyRing에서 찾습니다.
+    private final JwtParser jwtParser;
+    private final JwtTokenFormat tokenFormat;
+
+    public JwtUtil(String secret) {
+        this(JwtKeyRing.hmac(secret));
+    }
+
+    @Autowired
+    public JwtUtil(JwtKeyRing keyRing) {
+
+        this.keyRing = keyRing;
+        this.tokenFormat = new JwtTokenFormat(keyRing.algorithms());
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing.keyLocator())
+                .build();
+    }
+
+    public JwtKeyRing getKeyRing() {
+        return keyRing;
     }
 
     public String createJwt(String username, String type, String issuer, Long expiredMs) {
 
-        return Jwts.builder()
-                .claim("username", username)
-                .claim("type", type)
-                .claim("iss", issuer)
+        return createJwt(newClaims(username, type, issuer, expiredMs));
+    }
+
+    /**
+     * 권한(role) 클레임을 담은 Access Token을 만듭니다. JwtFilter가 이 값으로 GrantedAuthority를 채웁니다.
+     */
+    public String createAccessToken(String username, String role, long expiredMs) {
+
+        long now = System.currentTimeMillis();
+        return createJwt(new JwtClaims(username, "access", now, now + expiredMs, "suyeon", UUID.randomUUID().toString(), role));
+    }
+
+    /**
+     * 토큰 ID(jti)와 발급/만료 시각을 채운 클레임을 만듭니다.
+     * 발급한 토큰의 jti나 exp가 필요할 때 토큰을 다시 파싱하지 않도록 createJwt(JwtClaims)와 함께 사용합니다.
+     */
+    public JwtClaims newClaims(String username, String type, String issuer, long expiredMs) {
+
+        long now = System.currentTimeMillis();
+        return new JwtClaims(username, type, now, now + expiredMs, issuer, UUID.randomUUID().toString());
+    }
+
+    public String createJwt(JwtClaims claims) {
+
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        JwtBuilder builder = Jwts.builder()
+                .claim("username", claims.username())
+                .claim("type", claims.type())
+                .claim("role", claims.role())
+                .claim("iss", claims.issuer())
+                .id(claims.id())
 
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiredMs))
-                .signWith(secretKey)
-                .compact();
+                .issuedAt(new Date(claims.issuedAt()))
+                .expiration(new Date(claims.expiration()));
+        if (signingKey.kid() != null) {
+            builder = builder.header().keyId(signingKey.kid()).and();
+        }
+        return signWith(builder, signingKey.key(), signingKey.algorithm()).compact();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JwtBuilder signWith(JwtBuilder builder, Key key, SecureDigestAlgorithm<?, ?> algorithm) {
+        return builder.signWith(key, (SecureDigestAlgorithm<? super Key, ?>) algorithm);
+    }
+
+    /**
+     * 서명 검증 없이 토큰 구조만 확인합니다. 형식이 잘못되면 MalformedJwtException,
+     * 허용하지 않는 alg면 UnsupportedJwtException을 던집니다.
+     */
+    public void verifyFormat(String token) {
+        tokenFormat.verify(token);
+    }
+
+    /**
+     * 형식 검사 후 서명을 검증합니다. JwtClaimsCache의 로더로도 쓰이므로 캐시 적중 시에는 형식 검사도 건너뜁니다.
+     */
+    public JwtClaims parseClaims(String token) {
+        verifyFormat(token);
+        Claims claims = jwtParser
+                .parseSignedClaims(token)
+                .getPayload();
+
+        return JwtClaims.from(claims);
     }
 
     public void validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
         } catch (ExpiredJwtException e) {
             throw new ExpiredJwtException(null, null, "토큰이 만료되었습니다.");
         }
@@ -53,24 +136,13 @@ public class JwtUtil {
 
     public String getUsername(String token) {
 
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("username", String.class);
+        return parseClaims(token).username();
     }
 
     public Boolean isExpired(String token) {
 
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getExpiration()
-                    .before(new Date());
+            return parseClaims(token).isExpired(System.currentTimeMillis());
         } catch (Exception e) {
             return true;
         }
@@ -78,14 +150,7 @@ public class JwtUtil {
 
     public Boolean isAccessToken(String token) {
         try {
-            String tokenType = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .get("type", String.class);
-
-            return "access".equals(tokenType);
+            return parseClaims(token).isAccessToken();
         } catch (Exception e) {
             return false;
         }
@@ -95,38 +160,142 @@ public class JwtUtil {
 
     public Boolean isRefreshable(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parseClaims(token).isRefreshable(System.currentTimeMillis());
+        } catch (Exception e) {
+            return false;
+        }
+    }
 
-            Date issuedAt = claims.getIssuedAt();
-            Date expiration = claims.getExpiration();
 
-            if (issuedAt == null || expiration == null) {
-                return false;
-            }
 
-            long halfLife = (expiration.getTime() - issuedAt.getTime()) / 2;
-            long refreshThreshold = issuedAt.getTime() + halfLife;
 
-            return new Date().getTime() >= refreshThreshold;
-        } catch (Exception e) {
-            return false;
+    public String resolveToken(HttpServletRequest request) {
+        return resolveToken(request.getHeader("Authorization"));
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰을 꺼냅니다. 정규식이나 split 없이 인덱스만으로 처리하며,
+     * 앞뒤 공백을 무시하고 스킴(Bearer)은 대소문자를 구분하지 않습니다.
+     */
+    public String resolveToken(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+
+        int length = authorization.length();
+        int schemeStart = skipWhitespace(authorization, 0);
+        if (!authorization.regionMatches(true, schemeStart, BEARER, 0, BEARER.length())) {
+            return null;
+        }
+
+        int schemeEnd = schemeStart + BEARER.length();
+        if (schemeEnd >= length || !isWhitespace(authorization.charAt(schemeEnd))) {
+            return null;
+        }
+
+        int tokenStart = skipWhitespace(authorization, schemeEnd);
+        int tokenEnd = tokenStart;
+        while (tokenEnd < length && !isWhitespace(authorization.charAt(tokenEnd))) {
+            tokenEnd++;
         }
+        return tokenStart == tokenEnd ? null : authorization.substring(tokenStart, tokenEnd);
     }
 
+    /**
+     * Refresh Token을 담는 Set-Cookie 값입니다. 서블릿/WebFlux 모두 이 값을 그대로 헤더에 씁니다.
+     */
+    public static ResponseCookie refreshTokenCookie(String refreshToken) {
+        return refreshTokenCookie(refreshToken, REFRESH_COOKIE_MAX_AGE);
+    }
 
+    /**
+     * 로그아웃 시 브라우저의 refresh 쿠키를 지우는 Set-Cookie 값입니다.
+     */
+    public static ResponseCookie expiredRefreshTokenCookie() {
+        return refreshTokenCookie("", Duration.ZERO);
+    }
 
+    private static ResponseCookie refreshTokenCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(REFRESH_COOKIE, value)
+                .httpOnly(true)
+                .secure(false)
+                .path("/")
+                .maxAge(maxAge)
+                .sameSite("Lax")
+                .build();
+    }
 
-    public String resolveToken(HttpServletRequest request) {
-        String authorization = request.getHeader("Authorization");
-        if (authorization != null && authorization.startsWith("Bearer ")) {
-            return authorization.split(" ")[1];
+    /**
+     * Cookie 헤더를 직접 훑어 refresh 쿠키 값만 꺼냅니다.
+     * request.getCookies()처럼 모든 쿠키를 Cookie 객체로 파싱하지 않습니다.
+     */
+    public String resolveRefreshToken(HttpServletRequest request) {
+        Enumeration<String> cookieHeaders = request.getHeaders("Cookie");
+        if (cookieHeaders == null) {
+            return null;
+        }
+
+        while (cookieHeaders.hasMoreElements()) {
+            String value = findCookieValue(cookieHeaders.nextElement(), REFRESH_COOKIE);
+            if (value != null) {
+                return value;
+            }
         }
         return null;
     }
 
+    public static String findCookieValue(String cookieHeader, String name) {
+        if (cookieHeader == null) {
+            return null;
+        }
+
+        int length = cookieHeader.length();
+        int index = 0;
+        while (index < length) {
+            int nameStart = skipWhitespace(cookieHeader, index);
+            int pairEnd = cookieHeader.indexOf(';', nameStart);
+            if (pairEnd < 0) {
+                pairEnd = length;
+            }
+
+            int equals = cookieHeader.indexOf('=', nameStart);
+            if (equals >= 0 && equals < pairEnd) {
+                int nameEnd = trimTrailingWhitespace(cookieHeader, nameStart, equals);
+                if (nameEnd - nameStart == name.length()
+                        && cookieHeader.regionMatches(nameStart, name, 0, name.length())) {
+                    int valueStart = skipWhitespace(cookieHeader, equals + 1);
+                    int valueEnd = trimTrailingWhitespace(cookieHeader, valueStart, pairEnd);
+                    if (valueEnd - valueStart >= 2
+                            && cookieHeader.charAt(valueStart) == '"'
+                            && cookieHeader.charAt(valueEnd - 1) == '"') {
+                        valueStart++;
+                        valueEnd--;
+                    }
+                    return cookieHeader.substring(valueStart, valueEnd);
+                }
+            }
+            index = pairEnd + 1;
+        }
+        return null;
+    }
+
+    private static int skipWhitespace(String value, int index) {
+        while (index < value.length() && isWhitespace(value.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int trimTrailingWhitespace(String value, int start, int end) {
+        while (end > start && isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
 
 }
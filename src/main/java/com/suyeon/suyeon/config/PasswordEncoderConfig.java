@@ -1,14 +1,83 @@
 package com.suyeon.suyeon.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 환경별로 해시 알고리즘과 비용을 바꿀 수 있는 DelegatingPasswordEncoder를 등록합니다.
+ * 저장된 해시는 {id} 접두어로 알고리즘을 구분하며, 접두어가 없는 기존 해시는 BCrypt로 검증합니다.
+ */
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(PasswordEncoderProperties.class)
 public class PasswordEncoderConfig {
 
+    private static final String CALIBRATION_PASSWORD = "Calibration1!";
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+
+    private final PasswordEncoderProperties properties;
+
+    public PasswordEncoderConfig(PasswordEncoderProperties properties) {
+        this.properties = properties;
+    }
+
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder() {
+        PasswordEncoderProperties.Bcrypt bcryptProperties = properties.getBcrypt();
+        int strength = bcryptProperties.isCalibrate()
+                ? calibrateBCryptStrength(bcryptProperties.getStrength(), bcryptProperties.getTargetMillis())
+                : bcryptProperties.getStrength();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        String algorithm = properties.getAlgorithm();
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("argon2", new Argon2PasswordEncoder(
+                16, 32, 1, properties.getArgon2().getMemoryKb(), properties.getArgon2().getIterations()));
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder(
+                "", 16, properties.getPbkdf2().getIterations(), Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 알고리즘입니다 : " + algorithm);
+        }
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        log.info("Password encoder: {} (bcrypt strength {})", algorithm, strength);
+        return passwordEncoder;
+    }
+
+    /**
+     * 현재 하드웨어에서 한 번의 해싱이 목표 시간 안에 끝나는 가장 높은 BCrypt 비용을 고릅니다.
+     * 설정된 strength를 하한으로 사용하므로 보안 수준이 설정값 아래로 내려가지는 않습니다.
+     */
+    private int calibrateBCryptStrength(int minStrength, long targetMillis) {
+        int strength = minStrength;
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        new BCryptPasswordEncoder(strength).encode(CALIBRATION_PASSWORD);
+
+        while (strength < MAX_BCRYPT_STRENGTH) {
+            int next = strength + 1;
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(next).encode(CALIBRATION_PASSWORD);
+            long elapsedNanos = System.nanoTime() - start;
+
+            if (elapsedNanos > targetNanos) {
+                break;
+            }
+            strength = next;
+        }
+        return strength;
     }
 }
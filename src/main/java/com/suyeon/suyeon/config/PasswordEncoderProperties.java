@@ -0,0 +1,55 @@
+package com.suyeon.suyeon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * password.encoder 아래의 해시 알고리즘과 알고리즘별 비용입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "password.encoder")
+public class PasswordEncoderProperties {
+
+    /**
+     * 새로 저장하는 해시에 사용할 알고리즘입니다. bcrypt, argon2, pbkdf2 중 하나입니다.
+     */
+    private String algorithm = "bcrypt";
+
+    private Bcrypt bcrypt = new Bcrypt();
+
+    private Argon2 argon2 = new Argon2();
+
+    private Pbkdf2 pbkdf2 = new Pbkdf2();
+
+    @Getter
+    @Setter
+    public static class Bcrypt {
+
+        private int strength = 10;
+
+        /**
+         * true면 시작 시 target-millis 안에 끝나는 가장 높은 strength를 측정해 사용합니다. strength는 하한으로 유지됩니다.
+         */
+        private boolean calibrate = false;
+
+        private long targetMillis = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Argon2 {
+
+        private int memoryKb = 16384;
+
+        private int iterations = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Pbkdf2 {
+
+        private int iterations = 310000;
+    }
+}
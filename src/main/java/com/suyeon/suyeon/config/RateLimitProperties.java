@@ -0,0 +1,53 @@
+package com.suyeon.suyeon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * rate-limit 아래의 엔드포인트별 요청 한도입니다. 엔드포인트 이름(sign, signup)마다 IP/username 한도를 따로 둡니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 메모리에 유지할 버킷 수의 상한입니다. 넘으면 자주 쓰이지 않는 버킷부터 제거합니다.
+     */
+    private long maximumBuckets = 100_000;
+
+    /**
+     * 이 시간 동안 요청이 없던 버킷은 제거합니다. 가장 긴 period보다 길면 제거해도 한도가 느슨해지지 않습니다.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        private Budget perIp;
+
+        private Budget perUsername;
+    }
+
+    @Getter
+    @Setter
+    public static class Budget {
+
+        /**
+         * period 동안 허용하는 요청 수이자 한 번에 보낼 수 있는 최대 요청 수입니다.
+         */
+        private int capacity;
+
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.suyeon.suyeon.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.suyeon.suyeon.exception.RateLimitExceededException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트 IP와 username 기준으로 요청 수를 제한합니다.
+ * 버킷은 GcraBucket(AtomicLong 하나)이라 락 없이 동작하고, Caffeine 캐시에 보관해
+ * 오래 쓰지 않은 버킷은 제거하며 개수도 maximum-buckets로 제한합니다.
+ * IP를 바꿔 가며 공격해 버킷이 밀려나더라도 username 버킷이 계정별 시도 횟수를 제한합니다.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiter {
+
+    public static final String SIGN = "sign";
+    public static final String SIGNUP = "signup";
+
+    // member.username 컬럼 크기입니다. 이보다 긴 username은 가입될 수 없으므로 버킷을 만들지 않습니다.
+    private static final int MAX_USERNAME_LENGTH = 255;
+
+    private final RateLimitProperties properties;
+    private final Cache<BucketKey, GcraBucket> buckets;
+    private final LongSupplier nanoClock;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    public RateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    /**
+     * 한도를 넘으면 DB 조회나 해싱 전에 RateLimitExceededException(429)을 던집니다.
+     * username이 null이거나 컬럼 크기보다 길면 IP 한도만 확인합니다.
+     * maximum-buckets는 버킷 개수만 제한하므로, 긴 문자열이 키로 남아 메모리를 차지하지 않도록 길이를 먼저 확인합니다.
+     */
+    public void check(String endpoint, String clientIp, String username) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        RateLimitProperties.Endpoint limits = properties.getEndpoints().get(endpoint);
+        if (limits == null) {
+            return;
+        }
+
+        GcraBucket ipBucket = acquire(new BucketKey(endpoint, Scope.IP, clientIp), limits.getPerIp());
+        if (username != null && username.length() <= MAX_USERNAME_LENGTH) {
+            try {
+                acquire(new BucketKey(endpoint, Scope.USERNAME, username), limits.getPerUsername());
+            } catch (RateLimitExceededException e) {
+                // username 한도로 거절된 요청이 같은 IP의 다른 계정 로그인 한도까지 깎지 않도록 IP 토큰을 돌려줍니다.
+                if (ipBucket != null) {
+                    ipBucket.release();
+                }
+                throw e;
+            }
+        }
+    }
+
+    public long bucketCount() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * 토큰을 하나 사용하고 해당 버킷을 반환합니다. 한도가 설정되지 않았으면 null을 반환합니다.
+     */
+    private GcraBucket acquire(BucketKey key, RateLimitProperties.Budget budget) {
+        if (budget == null || key.value() == null) {
+            return null;
+        }
+
+        long now = nanoClock.getAsLong();
+        GcraBucket bucket = buckets.get(key, k -> new GcraBucket(budget.getCapacity(), budget.getPeriod().toNanos(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new RateLimitExceededException(retryAfterSeconds);
+        }
+        return bucket;
+    }
+
+    private enum Scope {
+        IP, USERNAME
+    }
+
+    private record BucketKey(String endpoint, Scope scope, String value) {
+    }
+}
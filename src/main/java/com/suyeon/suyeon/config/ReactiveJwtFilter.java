@@ -0,0 +1,133 @@
+package com.suyeon.suyeon.config;
+
+import com.suyeon.suyeon.jwt.JwtClaims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * reactive 프로필에서 사용하는 JwtFilter의 WebFilter 버전입니다. 판단 순서와 에러 응답은 JwtFilter와 같습니다.
+ * 클레임은 JwtClaimsCache에서 꺼내므로 대부분의 요청은 서명 검증 없이 이벤트 루프에서 바로 끝납니다.
+ * 인증 정보는 SecurityContextHolder 대신 Reactor Context에 넣습니다.
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtFilter implements WebFilter {
+
+    private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final TokenDenylist tokenDenylist;
+    private final AuthMetrics authMetrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+
+        if (isExemptPath(request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        try {
+            String token = jwtUtil.resolveToken(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+
+            if (token == null) {
+                return reject(response, AuthErrorResponse.TOKEN_MISSING);
+            }
+
+            // 형식 검사(verifyFormat)는 캐시 미스일 때 parseClaims 안에서만 실행됩니다.
+            JwtClaims claims = authMetrics.recordParse(() -> jwtClaimsCache.get(token));
+
+            if (tokenDenylist.isRevoked(claims.id())) {
+                return reject(response, AuthErrorResponse.REVOKED_TOKEN);
+            }
+
+            if (!claims.isAccessToken()) {
+                String refreshToken = resolveRefreshToken(request);
+                if (refreshToken == null) {
+                    return reject(response, AuthErrorResponse.REFRESH_TOKEN_MISSING);
+                }
+
+                if (!claims.username().equals(jwtUtil.parseClaims(refreshToken).username()))
+                {
+                    return reject(response, AuthErrorResponse.TOKEN_USER_MISMATCH);
+                }
+
+                return reject(response, AuthErrorResponse.ACCESS_TOKEN_REQUIRED);
+            }
+
+            if (claims.isRefreshable(System.currentTimeMillis())) {
+                if (resolveRefreshToken(request) == null) {
+                    return reject(response, AuthErrorResponse.REFRESH_TOKEN_MISSING);
+                }
+
+                authMetrics.refreshWindow();
+                response.beforeCommit(() -> {
+                    response.setStatusCode(HttpStatus.ACCEPTED);
+                    return Mono.empty();
+                });
+            }
+
+            return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication(claims)));
+
+        } catch (MalformedJwtException e) {
+            return reject(response, AuthErrorResponse.MALFORMED_TOKEN);
+        } catch (ExpiredJwtException e) {
+            return reject(response, AuthErrorResponse.EXPIRED_TOKEN);
+        } catch (UnsupportedJwtException e) {
+            return reject(response, AuthErrorResponse.UNSUPPORTED_TOKEN);
+        } catch (IllegalArgumentException e) {
+            return reject(response, AuthErrorResponse.EMPTY_CLAIMS);
+        } catch (Exception e) {
+            return reject(response, AuthErrorResponse.UNKNOWN_ERROR);
+        }
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, AuthErrorResponse error) {
+        authMetrics.rejected(error);
+        return error.writeTo(response);
+    }
+
+    private UsernamePasswordAuthenticationToken authentication(JwtClaims claims) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(claims.username(), null, authorities(claims));
+        authentication.setDetails(claims);
+        return authentication;
+    }
+
+    // role 클레임이 없는 토큰(이전에 발급된 토큰 포함)은 권한 없이 인증만 됩니다.
+    private static List<GrantedAuthority> authorities(JwtClaims claims) {
+        return claims.role() == null ? List.of() : List.of(new SimpleGrantedAuthority(claims.role()));
+    }
+
+    private String resolveRefreshToken(ServerHttpRequest request) {
+        HttpCookie cookie = request.getCookies().getFirst(JwtUtil.REFRESH_COOKIE);
+        return cookie == null ? null : cookie.getValue();
+    }
+
+    private boolean isExemptPath(String path) {
+        return path.startsWith("/api/members/signup")
+                || path.equals("/api/members/sign")
+                || path.equals("/health")
+                || path.equals("/actuator/health")
+                || path.equals("/actuator/prometheus")
+                || path.equals("/.well-known/jwks.json")
+                || path.startsWith("/favicon.ico")
+                ;
+    }
+}
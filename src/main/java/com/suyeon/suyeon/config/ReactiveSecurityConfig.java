@@ -0,0 +1,56 @@
+package com.suyeon.suyeon.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * reactive 프로필의 보안 설정입니다. 세션 없이 ReactiveJwtFilter로만 인증합니다.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final TokenDenylist tokenDenylist;
+    private final AuthMetrics authMetrics;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity httpSecurity) {
+
+        return httpSecurity
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .addFilterAt(
+                        new ReactiveJwtFilter(jwtUtil, jwtClaimsCache, tokenDenylist, authMetrics), SecurityWebFiltersOrder.AUTHENTICATION)
+                .authorizeExchange(
+                        exchanges -> {
+                            exchanges
+                                    .pathMatchers(
+                                            "/favicon.ico",
+                                            "/api/members/signup",
+                                            "/api/members/sign",
+                                            "/health",
+                                            // actuator는 management.server.port에서만 응답하므로 공개 포트로는 열리지 않습니다.
+                                            "/actuator/health",
+                                            "/actuator/prometheus",
+                                            "/.well-known/jwks.json")
+                                    .permitAll();
+                            exchanges.pathMatchers("/api/**").authenticated();
+                            exchanges.anyExchange().permitAll();
+                        })
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.suyeon.suyeon.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
@@ -15,10 +16,14 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final TokenDenylist tokenDenylist;
+    private final AuthMetrics authMetrics;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration)
@@ -34,7 +39,7 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .csrf(AbstractHttpConfigurer::disable)
                 .addFilterBefore(
-                        new JwtFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+                        new JwtFilter(jwtUtil, jwtClaimsCache, tokenDenylist, authMetrics), UsernamePasswordAuthenticationFilter.class)
                 .sessionManagement(
                         sessionManagement ->
                                 sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -49,8 +54,15 @@ public class SecurityConfig {
                                             "/favicon.ico",
                                             "/api/members/signup",
                                             "/api/members/sign",
-                                            "/health")
+                                            "/api/members/refresh",
+                                            "/health",
+                                            // actuator는 management.server.port에서만 응답하므로 공개 포트로는 열리지 않습니다.
+                                            "/actuator/health",
+                                            "/actuator/prometheus",
+                                            "/.well-known/jwks.json")
                                     .permitAll();
+                            // 대량 가입은 운영자(member.role = ROLE_ADMIN)의 Access Token으로만 호출할 수 있습니다.
+                            requests.requestMatchers("/api/members/import").hasRole("ADMIN");
                             requests.requestMatchers("/api/**").authenticated();
                         })
                 .build();
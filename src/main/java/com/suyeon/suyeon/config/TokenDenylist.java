@@ -0,0 +1,132 @@
+package com.suyeon.suyeon.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 만료 전에 폐기된 토큰의 jti 목록입니다.
+ * 앞단의 Bloom filter가 대부분의 조회를 메모리에서 바로 음성으로 돌려보내고,
+ * 양성일 때만 jti를 키로 하는 Caffeine 캐시를 확인합니다.
+ * 캐시 엔트리는 토큰의 exp 시점에 사라지며, 지워진 jti는 주기적으로 Bloom filter를 다시 만들어 정리합니다.
+ * 프로세스 메모리에만 저장하므로 여러 인스턴스로 운영할 때는 인스턴스마다 따로 관리됩니다.
+ */
+@Slf4j
+@Component
+public class TokenDenylist implements MeterBinder {
+
+    private final Cache<String, Long> revokedTokens;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private volatile BloomFilter bloomFilter;
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder revokedHits = new LongAdder();
+    private final LongAdder bloomHitsNotRevoked = new LongAdder();
+
+    public TokenDenylist(
+            @Value("${jwt.denylist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.denylist.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new RevocationExpiry())
+                .build();
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * jti를 exp 시점까지 폐기 목록에 올립니다. jti가 없거나 이미 만료된 토큰은 무시합니다.
+     */
+    public synchronized void revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        if (!bloomFilter.mightContain(tokenId)) {
+            bloomNegatives.increment();
+            return false;
+        }
+        if (revokedTokens.getIfPresent(tokenId) == null) {
+            bloomHitsNotRevoked.increment();
+            return false;
+        }
+        revokedHits.increment();
+        return true;
+    }
+
+    public long size() {
+        return revokedTokens.estimatedSize();
+    }
+
+    /**
+     * 만료된 jti를 정리한 뒤 남은 jti만으로 Bloom filter를 다시 만듭니다.
+     * revoke와 같은 락을 잡아 재구성 중에 추가된 jti가 빠지지 않도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.denylist.rebuild-interval-millis:600000}")
+    public synchronized void rebuild() {
+        revokedTokens.cleanUp();
+        long size = revokedTokens.estimatedSize();
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, size * 2), falsePositiveRate);
+        revokedTokens.asMap().keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        log.debug("폐기 토큰 Bloom filter를 {}개 jti로 다시 만들었습니다.", size);
+    }
+
+    /**
+     * bloom_hit_not_revoked는 Bloom filter는 양성이지만 폐기 목록에 없는 조회 수입니다.
+     * 진짜 오탐뿐 아니라 exp가 지나 캐시에서 사라졌지만 아직 rebuild 전이라 Bloom filter에 남은 jti도 함께 셉니다.
+     * 따라서 이 값만으로 오탐률을 판단할 수 없습니다. rebuild 직후에도 높게 유지될 때만 expected-insertions를 늘리고,
+     * rebuild 주기에 맞춰 떨어진다면 rebuild-interval-millis를 줄이는 편이 맞습니다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.denylist.size", this, TokenDenylist::size)
+                .register(registry);
+        FunctionCounter.builder("jwt.denylist.lookups", bloomNegatives, LongAdder::sum)
+                .tag("result", "bloom_negative")
+                .register(registry);
+        FunctionCounter.builder("jwt.denylist.lookups", revokedHits, LongAdder::sum)
+                .tag("result", "revoked")
+                .register(registry);
+        FunctionCounter.builder("jwt.denylist.lookups", bloomHitsNotRevoked, LongAdder::sum)
+                .tag("result", "bloom_hit_not_revoked")
+                .register(registry);
+    }
+
+    private static class RevocationExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String tokenId, Long expiresAt, long currentTime) {
+            long remainingMillis = expiresAt - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenId, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.suyeon.suyeon.controller;
+
+import com.suyeon.suyeon.config.JwksPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 다른 서비스가 토큰을 직접 검증할 수 있도록 공개 키를 JWKS로 내려줍니다.
+ * ETag가 있는 ResponseEntity는 Spring이 If-None-Match를 비교해 304로 응답합니다.
+ */
+@RestController
+public class JwksController {
+
+    private final JwksPublisher jwksPublisher;
+    private final CacheControl cacheControl;
+
+    public JwksController(
+            JwksPublisher jwksPublisher,
+            @Value("${jwt.jwks.max-age-seconds:300}") long maxAgeSeconds) {
+        this.jwksPublisher = jwksPublisher;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        JwksPublisher.Document document = jwksPublisher.current();
+
+        return ResponseEntity.ok()
+                .eTag(document.etag())
+                .cacheControl(cacheControl)
+                .body(document.json());
+    }
+}
@@ -1,10 +1,13 @@
 package com.suyeon.suyeon.controller;
 
 
+import com.suyeon.suyeon.config.RateLimiter;
 import com.suyeon.suyeon.dto.*;
 import com.suyeon.suyeon.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -13,15 +16,18 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 @RequestMapping("/api/members")
 public class MemberController implements SwaggerMemberController {
 
     private final MemberService memberService;
+    private final RateLimiter rateLimiter;
 
     @PostMapping("/signup")
     public ResponseEntity<SignupResponseDto> signup(
-            @RequestBody SignupRequestDto dto) {
+            @RequestBody SignupRequestDto dto, HttpServletRequest request) {
+        rateLimiter.check(RateLimiter.SIGNUP, request.getRemoteAddr(), null);
         SignupResponseDto responseDto = memberService.signup(dto);
 
         return ResponseEntity.status(CREATED).body(responseDto);
@@ -29,12 +35,29 @@ public class MemberController implements SwaggerMemberController {
 
     @PostMapping("/sign")
     public ResponseEntity<SignResponseDto> sign(
-            @RequestBody SignRequestDto dto, HttpServletResponse response) {
+            @RequestBody SignRequestDto dto, HttpServletRequest request, HttpServletResponse response) {
+        rateLimiter.check(RateLimiter.SIGN, request.getRemoteAddr(), dto.getUsername());
         SignResponseDto responseDto = memberService.sign(dto, response);
 
         return ResponseEntity.status(OK).body(responseDto);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<SignResponseDto> refresh(
+            HttpServletRequest request, HttpServletResponse response) {
+        SignResponseDto responseDto = memberService.refresh(request, response);
+
+        return ResponseEntity.status(OK).body(responseDto);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            Authentication auth, HttpServletRequest request, HttpServletResponse response) {
+        memberService.logout(auth, request, response);
+
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/profile")
     public ResponseEntity<ProfileResponseDto> profile(Authentication auth) {
 
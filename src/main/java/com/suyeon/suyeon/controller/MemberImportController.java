@@ -0,0 +1,71 @@
+package com.suyeon.suyeon.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suyeon.suyeon.dto.MemberImportProgressDto;
+import com.suyeon.suyeon.service.MemberImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대량 가입 API입니다. member.import.enabled=true일 때만 등록됩니다.
+ * 요청 본문을 끝까지 받기 전에 청크마다 진행 상황을 NDJSON 한 줄로 flush하므로, 클라이언트는 업로드 중에도 결과를 읽을 수 있습니다.
+ */
+@RestController
+@Profile("!reactive")
+@ConditionalOnProperty(name = "member.import.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@RequestMapping("/api/members")
+public class MemberImportController {
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final MemberImportService memberImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(
+            value = "/import",
+            consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importMembers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MemberImportService.Format format =
+                MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                        ? MemberImportService.Format.NDJSON
+                        : MemberImportService.Format.CSV;
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        try {
+            memberImportService.importMembers(reader, format, progress -> write(out, progress));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void write(OutputStream out, MemberImportProgressDto progress) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(progress));
+            out.write(NEW_LINE);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
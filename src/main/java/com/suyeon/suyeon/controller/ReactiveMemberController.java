@@ -0,0 +1,61 @@
+package com.suyeon.suyeon.controller;
+
+import com.suyeon.suyeon.config.RateLimiter;
+import com.suyeon.suyeon.dto.*;
+import com.suyeon.suyeon.service.ReactiveMemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * reactive 프로필에서 MemberController 대신 등록됩니다. 경로와 응답 형식은 같습니다.
+ */
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@RequestMapping("/api/members")
+public class ReactiveMemberController {
+
+    private final ReactiveMemberService memberService;
+    private final RateLimiter rateLimiter;
+
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<SignupResponseDto>> signup(
+            @RequestBody SignupRequestDto dto, ServerHttpRequest request) {
+        rateLimiter.check(RateLimiter.SIGNUP, clientIp(request), null);
+
+        return memberService.signup(dto)
+                .map(responseDto -> ResponseEntity.status(CREATED).body(responseDto));
+    }
+
+    @PostMapping("/sign")
+    public Mono<ResponseEntity<SignResponseDto>> sign(
+            @RequestBody SignRequestDto dto, ServerHttpRequest request, ServerHttpResponse response) {
+        rateLimiter.check(RateLimiter.SIGN, clientIp(request), dto.getUsername());
+
+        return memberService.sign(dto, response)
+                .map(responseDto -> ResponseEntity.status(OK).body(responseDto));
+    }
+
+    @GetMapping("/profile")
+    public Mono<ResponseEntity<ProfileResponseDto>> profile(Authentication auth) {
+
+        return memberService.profile(auth.getName())
+                .map(responseDto -> ResponseEntity.status(OK).body(responseDto));
+    }
+
+    private static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress == null ? null : remoteAddress.getHostString();
+    }
+}
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -25,7 +26,7 @@ public interface SwaggerMemberController {
                             schema = @Schema(implementation = SignupResponseDto.class))
             })
     ResponseEntity<SignupResponseDto> signup(
-            @RequestBody SignupRequestDto dto);
+            @RequestBody SignupRequestDto dto, HttpServletRequest request);
 
     @Operation(summary = "로그인 API", description = "아이디과 비밀번호를 사용하여 새 멤버를 생성합니다.")
     @ApiResponse(
@@ -37,7 +38,22 @@ public interface SwaggerMemberController {
                             schema = @Schema(implementation = SignResponseDto.class))
             })
     ResponseEntity<SignResponseDto> sign(
-            @RequestBody SignRequestDto dto, HttpServletResponse response);
+            @RequestBody SignRequestDto dto, HttpServletRequest request, HttpServletResponse response);
+
+    @Operation(summary = "토큰 갱신 API", description = "refresh 쿠키의 Refresh Token으로 Access Token과 Refresh Token을 함께 재발급합니다.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "토큰 갱신 성공 예시",
+            content = {
+                    @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SignResponseDto.class))
+            })
+    ResponseEntity<SignResponseDto> refresh(HttpServletRequest request, HttpServletResponse response);
+
+    @Operation(summary = "로그아웃 API", description = "현재 Access Token을 만료 시점까지 폐기하고 Refresh Token을 삭제합니다.")
+    @ApiResponse(responseCode = "204", description = "로그아웃 성공")
+    ResponseEntity<Void> logout(Authentication auth, HttpServletRequest request, HttpServletResponse response);
 
     @Operation(summary = "프로필 조회 API", description = "AccessToken을 이용해 인가하고 인가 정보로 프로필을 조회합니다.")
     @ApiResponse(
@@ -0,0 +1,17 @@
+package com.suyeon.suyeon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberImportErrorDto {
+
+    private long line;
+    private String username;
+    private String reason;
+}
@@ -0,0 +1,26 @@
+package com.suyeon.suyeon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 대량 가입 응답(NDJSON)의 한 줄입니다. 청크마다 한 줄씩, 마지막에 done=true인 합계 한 줄을 보냅니다.
+ * processed/imported/failed는 처음부터 누적한 값이고, errors에는 해당 청크의 실패 행만 담깁니다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberImportProgressDto {
+
+    private int chunk;
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<MemberImportErrorDto> errors;
+    private boolean done;
+}
@@ -1,17 +1,26 @@
 package com.suyeon.suyeon.dto;
 
+import com.suyeon.suyeon.entity.Member;
+import com.suyeon.suyeon.repository.MemberProfile;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
 
 
+/**
+ * profile 캐시에 저장된 같은 인스턴스가 여러 요청에 그대로 반환되므로 setter 없이 불변으로 둡니다.
+ */
 @Getter
-@Setter
 @AllArgsConstructor
-@NoArgsConstructor
 public class ProfileResponseDto {
 
-    private String username;
-    private String nickname;
+    private final String username;
+    private final String nickname;
+
+    public static ProfileResponseDto from(Member member) {
+        return new ProfileResponseDto(member.getUsername(), member.getNickname());
+    }
+
+    public static ProfileResponseDto from(MemberProfile profile) {
+        return new ProfileResponseDto(profile.getUsername(), profile.getNickname());
+    }
 }
@@ -1,5 +1,6 @@
 package com.suyeon.suyeon.dto;
 
+import com.suyeon.suyeon.entity.Member;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,4 +17,8 @@ public class SignupResponseDto {
     private String username;
     private String nickname;
     private List<AuthorityDto> authorities;
+
+    public static SignupResponseDto from(Member member, List<AuthorityDto> authorities) {
+        return new SignupResponseDto(member.getUsername(), member.getNickname(), authorities);
+    }
 }
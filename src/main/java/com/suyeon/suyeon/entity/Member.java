@@ -15,17 +15,21 @@ import java.util.Collections;
 @Getter
 @Setter
 @Entity
-@Table(name = "member")
+@Table(
+        name = "member",
+        uniqueConstraints = @UniqueConstraint(name = Member.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username"))
 public class Member extends BaseTimeEntity implements UserDetails {
 
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_member_username";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(nullable = false)
     private String username;
     private String password;
     private String nickname;
-    private String refreshToken;
 
     private String role = "ROLE_USER";
     @Override
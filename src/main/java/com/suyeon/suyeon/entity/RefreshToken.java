@@ -0,0 +1,42 @@
+package com.suyeon.suyeon.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 행과 분리된 Refresh Token 저장소입니다. 토큰 원문 대신 토큰 ID(jti)의 해시만 저장하며,
+ * 한 회원이 기기별로 여러 개의 토큰을 가질 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_token_username", columnList = "username"),
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+        })
+public class RefreshToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    // epoch millis
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    public RefreshToken(String username, String tokenHash, long expiresAt) {
+        this.username = username;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.suyeon.suyeon.exception;
+
+import com.suyeon.suyeon.entity.Member;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * DataIntegrityViolationException이 어떤 제약 위반인지 확인합니다.
+ * JPA(Hibernate)와 R2DBC 모두 드라이버 메시지에 제약 이름("for key 'member.uk_member_username'")이 들어 있으므로 메시지로 판단합니다.
+ */
+public final class DataIntegrityViolations {
+
+    private DataIntegrityViolations() {
+    }
+
+    public static boolean isUsernameDuplicate(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(Member.USERNAME_UNIQUE_CONSTRAINT);
+    }
+}
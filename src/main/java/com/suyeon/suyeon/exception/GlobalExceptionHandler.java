@@ -1,22 +1,45 @@
 package com.suyeon.suyeon.exception;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.RejectedExecutionException;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 드라이버에서 번역된 DuplicateKeyException(원인 예외 있음)은 ID 중복일 때만 409로 응답합니다.
+     * refresh_token 등 다른 유니크 키 충돌은 아래의 일반 무결성 오류로 처리합니다.
+     */
     @ExceptionHandler(DuplicateKeyException.class)
     public ResponseEntity<String> handleDuplicateKeyException(DuplicateKeyException e) {
+        if (e.getCause() != null && !DataIntegrityViolations.isUsernameDuplicate(e)) {
+            return handleDataIntegrityViolationException(e);
+        }
         return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
     }
 
+    /**
+     * ID 중복(uk_member_username)은 서비스에서 DuplicateKeyException으로 바꿔 409로 응답합니다.
+     * 그 밖의 NOT NULL 위반, 길이 초과 등은 드라이버 메시지를 노출하지 않고 400으로 응답합니다.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        log.warn("데이터 무결성 제약 위반 : {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("저장할 수 없는 값이 포함되어 있습니다!");
+    }
+
     @ExceptionHandler(UsernameNotFoundException.class)
     public ResponseEntity<String> handleUsernameNotFoundException(UsernameNotFoundException e) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
@@ -27,9 +50,37 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid username or password");
     }
 
+    /**
+     * 로그인 실패와 구분할 수 있도록 재로그인이 필요한 이유를 그대로 응답합니다.
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<String> handleInvalidRefreshTokenException(InvalidRefreshTokenException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
     }
-}
 
+    /**
+     * 커넥션 풀에서 connection-timeout 안에 커넥션을 얻지 못한 경우입니다.
+     * 가상 스레드 모드에서는 요청 수가 풀 크기를 크게 넘을 수 있으므로 500 대신 503으로 빠르게 돌려보냅니다.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<String> handleCannotCreateTransactionException(CannotCreateTransactionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("요청이 많습니다! 잠시 후 다시 시도해주세요!");
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejectedExecutionException(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("요청이 많습니다! 잠시 후 다시 시도해주세요!");
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<String> handleRateLimitExceededException(RateLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
+}
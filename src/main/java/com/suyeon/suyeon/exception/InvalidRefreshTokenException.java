@@ -0,0 +1,11 @@
+package com.suyeon.suyeon.exception;
+
+/**
+ * Refresh Token이 없거나 유효하지 않을 때 던집니다. GlobalExceptionHandler가 메시지를 그대로 담아 401로 응답합니다.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
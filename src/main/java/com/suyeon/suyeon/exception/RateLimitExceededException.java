@@ -0,0 +1,18 @@
+package com.suyeon.suyeon.exception;
+
+/**
+ * 요청 한도를 넘었을 때 던집니다. GlobalExceptionHandler가 429와 Retry-After 헤더로 응답합니다.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("요청이 많습니다! 잠시 후 다시 시도해주세요!");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
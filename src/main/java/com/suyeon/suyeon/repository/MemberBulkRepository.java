@@ -0,0 +1,65 @@
+package com.suyeon.suyeon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대량 가입(MemberImportService)용 JDBC 리포지토리입니다.
+ * JPA의 IDENTITY 전략은 insert마다 생성된 id를 읽어야 해서 Hibernate 배치가 꺼지므로,
+ * 엔터티를 거치지 않고 JdbcTemplate batchUpdate로 넣습니다. 생성된 id는 읽지 않으므로 AUTO_INCREMENT를 그대로 쓰고,
+ * URL의 rewriteBatchedStatements=true가 배치를 여러 행 INSERT 문으로 합쳐 보냅니다.
+ */
+@Repository
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class MemberBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 주어진 username 중 이미 가입된 것만 IN 쿼리 한 번으로 조회합니다.
+     */
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Set.of();
+        }
+        List<String> existing = namedParameterJdbcTemplate.queryForList(
+                "SELECT username FROM member WHERE username IN (:usernames)",
+                Map.of("usernames", usernames),
+                String.class);
+        return new HashSet<>(existing);
+    }
+
+    /**
+     * username 중복은 uk_member_username 제약 위반(DuplicateKeyException)으로 전달됩니다.
+     * 배치가 여러 INSERT 문으로 나뉘어도 한 트랜잭션으로 묶어, 실패하면 일부 행만 저장된 채 남지 않게 합니다.
+     */
+    @Transactional
+    public void insertAll(List<NewMember> members) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(members.size());
+        for (NewMember member : members) {
+            rows.add(new Object[]{member.username(), member.password(), member.nickname(), member.role(), now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO member (username, password, nickname, role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    public record NewMember(String username, String password, String nickname, String role) {
+    }
+}
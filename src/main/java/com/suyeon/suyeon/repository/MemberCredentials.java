@@ -0,0 +1,13 @@
+package com.suyeon.suyeon.repository;
+
+/**
+ * 로그인 검증에 필요한 컬럼만 조회하는 프로젝션입니다.
+ */
+public interface MemberCredentials {
+
+    String getUsername();
+
+    String getPassword();
+
+    String getRole();
+}
@@ -0,0 +1,11 @@
+package com.suyeon.suyeon.repository;
+
+/**
+ * 프로필 조회에 필요한 컬럼만 조회하는 프로젝션입니다.
+ */
+public interface MemberProfile {
+
+    String getUsername();
+
+    String getNickname();
+}
@@ -2,14 +2,28 @@ package com.suyeon.suyeon.repository;
 
 import com.suyeon.suyeon.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
-    boolean existsByUsername(String username);
+    Optional<MemberCredentials> findCredentialsByUsername(String username);
 
-    Optional<Member> findByUsername(String username);
+    Optional<MemberProfile> findProfileByUsername(String username);
+
+    @Query("select m.role from Member m where m.username = :username")
+    Optional<String> findRoleByUsername(@Param("username") String username);
+
+    @Modifying
+    @Query("update Member m set m.password = :password, m.modifiedAt = :modifiedAt where m.username = :username")
+    int updatePassword(
+            @Param("username") String username,
+            @Param("password") String password,
+            @Param("modifiedAt") LocalDateTime modifiedAt);
 }
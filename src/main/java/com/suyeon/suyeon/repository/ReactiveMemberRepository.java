@@ -0,0 +1,133 @@
+package com.suyeon.suyeon.repository;
+
+import com.suyeon.suyeon.service.RefreshTokenStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * reactive 프로필에서 R2DBC로 member, refresh_token 테이블에 접근합니다.
+ * 스키마는 Flyway 마이그레이션(JPA 스택과 동일)을 그대로 사용하며, 필요한 컬럼만 조회합니다.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveMemberRepository {
+
+    private final DatabaseClient databaseClient;
+    private final int maxRefreshTokensPerUser;
+
+    public ReactiveMemberRepository(
+            DatabaseClient databaseClient,
+            @Value("${jwt.refresh-token.max-per-user:5}") int maxRefreshTokensPerUser) {
+        this.databaseClient = databaseClient;
+        this.maxRefreshTokensPerUser = maxRefreshTokensPerUser;
+    }
+
+    public Mono<MemberCredentials> findCredentialsByUsername(String username) {
+        return databaseClient.sql("SELECT username, password, role FROM member WHERE username = :username")
+                .bind("username", username)
+                .map((row, metadata) -> (MemberCredentials) new CredentialsRow(
+                        row.get("username", String.class),
+                        row.get("password", String.class),
+                        row.get("role", String.class)))
+                .one();
+    }
+
+    public Mono<MemberProfile> findProfileByUsername(String username) {
+        return databaseClient.sql("SELECT username, nickname FROM member WHERE username = :username")
+                .bind("username", username)
+                .map((row, metadata) -> (MemberProfile) new ProfileRow(
+                        row.get("username", String.class),
+                        row.get("nickname", String.class)))
+                .one();
+    }
+
+    /**
+     * username 중복은 uk_member_username 제약 위반(DataIntegrityViolationException)으로 전달됩니다.
+     */
+    public Mono<Void> insert(String username, String password, String nickname, String role) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("INSERT INTO member (username, password, nickname, role, created_at, modified_at)"
+                        + " VALUES (:username, :password, :nickname, :role, :createdAt, :modifiedAt)")
+                .bind("username", username)
+                .bind("password", password)
+                .bind("nickname", nickname)
+                .bind("role", role)
+                .bind("createdAt", now)
+                .bind("modifiedAt", now)
+                .then();
+    }
+
+    public Mono<Long> updatePassword(String username, String password) {
+        return databaseClient.sql("UPDATE member SET password = :password, modified_at = :modifiedAt WHERE username = :username")
+                .bind("password", password)
+                .bind("modifiedAt", LocalDateTime.now())
+                .bind("username", username)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * JpaRefreshTokenStore와 같은 형식(jti의 SHA-256)으로 refresh_token에 저장하고,
+     * 같은 방식으로 회원별 max-per-user개를 넘는 오래된 토큰을 지웁니다.
+     */
+    public Mono<Void> saveRefreshToken(String username, String tokenId, long expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("INSERT INTO refresh_token (username, token_hash, expires_at, created_at, modified_at)"
+                        + " VALUES (:username, :tokenHash, :expiresAt, :createdAt, :modifiedAt)")
+                .bind("username", username)
+                .bind("tokenHash", RefreshTokenStore.hash(tokenId))
+                .bind("expiresAt", expiresAt)
+                .bind("createdAt", now)
+                .bind("modifiedAt", now)
+                .then()
+                .then(evictOldRefreshTokens(username));
+    }
+
+    private Mono<Void> evictOldRefreshTokens(String username) {
+        return databaseClient.sql("SELECT id FROM refresh_token WHERE username = :username ORDER BY id DESC LIMIT 1 OFFSET :keep")
+                .bind("username", username)
+                .bind("keep", maxRefreshTokensPerUser)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .one()
+                .flatMap(cutoffId -> databaseClient.sql("DELETE FROM refresh_token WHERE username = :username AND id <= :cutoffId")
+                        .bind("username", username)
+                        .bind("cutoffId", cutoffId)
+                        .then());
+    }
+
+    private record CredentialsRow(String username, String password, String role) implements MemberCredentials {
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public String getPassword() {
+            return password;
+        }
+
+        @Override
+        public String getRole() {
+            return role;
+        }
+    }
+
+    private record ProfileRow(String username, String nickname) implements MemberProfile {
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public String getNickname() {
+            return nickname;
+        }
+    }
+}
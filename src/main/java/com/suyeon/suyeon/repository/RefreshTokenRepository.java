@@ -0,0 +1,46 @@
+package com.suyeon.suyeon.repository;
+
+import com.suyeon.suyeon.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    boolean existsByTokenHashAndExpiresAtGreaterThan(String tokenHash, long now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("update RefreshToken t set t.tokenHash = :newTokenHash, t.expiresAt = :newExpiresAt, t.modifiedAt = :modifiedAt"
+            + " where t.tokenHash = :tokenHash and t.expiresAt > :now")
+    int rotate(
+            @Param("tokenHash") String tokenHash,
+            @Param("newTokenHash") String newTokenHash,
+            @Param("newExpiresAt") long newExpiresAt,
+            @Param("now") long now,
+            @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at <= :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") long now, @Param("limit") int limit);
+
+    /**
+     * 회원의 토큰을 최신순으로 keep개 건너뛴 다음 토큰의 id입니다. 이 id 이하는 keep개를 넘는 오래된 로그인입니다.
+     * idx_refresh_token_username(username, id)만 읽습니다.
+     */
+    @Query(value = "SELECT id FROM refresh_token WHERE username = :username ORDER BY id DESC LIMIT 1 OFFSET :keep", nativeQuery = true)
+    Optional<Long> findEvictionCutoff(@Param("username") String username, @Param("keep") int keep);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.username = :username and t.id <= :cutoffId")
+    int deleteByUsernameUpTo(@Param("username") String username, @Param("cutoffId") long cutoffId);
+}
@@ -0,0 +1,101 @@
+package com.suyeon.suyeon.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 인스턴스나 테스트 환경을 위한 메모리 기반 저장소입니다. 재시작하면 모든 Refresh Token이 사라집니다.
+ * 회원별 토큰 해시는 저장 순서대로 LinkedHashSet에 두고, ConcurrentHashMap.compute 안에서만 변경해 회원 단위로 원자적으로 처리합니다.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final Map<String, LinkedHashSet<String>> tokensByUser = new ConcurrentHashMap<>();
+    private final int maxPerUser;
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh-token.max-per-user:5}") int maxPerUser) {
+        this.maxPerUser = maxPerUser;
+    }
+
+    @Override
+    public void save(String username, String tokenId, long expiresAt) {
+        String tokenHash = RefreshTokenStore.hash(tokenId);
+        tokens.put(tokenHash, new Entry(username, expiresAt));
+        tokensByUser.compute(username, (user, hashes) -> {
+            LinkedHashSet<String> userHashes = hashes == null ? new LinkedHashSet<>() : hashes;
+            userHashes.add(tokenHash);
+            Iterator<String> oldest = userHashes.iterator();
+            while (userHashes.size() > maxPerUser) {
+                tokens.remove(oldest.next());
+                oldest.remove();
+            }
+            return userHashes;
+        });
+    }
+
+    @Override
+    public boolean exists(String tokenId, long now) {
+        Entry entry = tokens.get(RefreshTokenStore.hash(tokenId));
+        return entry != null && entry.expiresAt() > now;
+    }
+
+    @Override
+    public void delete(String tokenId) {
+        String tokenHash = RefreshTokenStore.hash(tokenId);
+        Entry entry = tokens.remove(tokenHash);
+        if (entry != null) {
+            untrack(entry.username(), tokenHash);
+        }
+    }
+
+    @Override
+    public boolean rotate(String tokenId, String newTokenId, long newExpiresAt, long now) {
+        // remove는 원자적이므로 같은 토큰으로 동시에 교체를 시도해도 한 요청만 성공합니다.
+        String tokenHash = RefreshTokenStore.hash(tokenId);
+        Entry entry = tokens.remove(tokenHash);
+        if (entry == null) {
+            return false;
+        }
+        untrack(entry.username(), tokenHash);
+        if (entry.expiresAt() <= now) {
+            return false;
+        }
+        save(entry.username(), newTokenId, newExpiresAt);
+        return true;
+    }
+
+    @Override
+    public int deleteExpired(long now, int batchSize) {
+        int deleted = 0;
+        Iterator<Map.Entry<String, Entry>> iterator = tokens.entrySet().iterator();
+        while (iterator.hasNext() && deleted < batchSize) {
+            Map.Entry<String, Entry> token = iterator.next();
+            if (token.getValue().expiresAt() <= now) {
+                iterator.remove();
+                untrack(token.getValue().username(), token.getKey());
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private void untrack(String username, String tokenHash) {
+        tokensByUser.computeIfPresent(username, (user, hashes) -> {
+            hashes.remove(tokenHash);
+            return hashes.isEmpty() ? null : hashes;
+        });
+    }
+
+    private record Entry(String username, long expiresAt) {
+    }
+}
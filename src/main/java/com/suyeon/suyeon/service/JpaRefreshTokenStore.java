@@ -0,0 +1,60 @@
+package com.suyeon.suyeon.service;
+
+import com.suyeon.suyeon.entity.RefreshToken;
+import com.suyeon.suyeon.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Component
+@Profile("!reactive")
+@Transactional
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int maxPerUser;
+
+    public JpaRefreshTokenStore(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-token.max-per-user:5}") int maxPerUser) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.maxPerUser = maxPerUser;
+    }
+
+    /**
+     * 저장 후 회원의 토큰이 max-per-user개를 넘으면 가장 오래된 로그인부터 지웁니다.
+     */
+    @Override
+    public void save(String username, String tokenId, long expiresAt) {
+        refreshTokenRepository.save(new RefreshToken(username, RefreshTokenStore.hash(tokenId), expiresAt));
+        refreshTokenRepository.findEvictionCutoff(username, maxPerUser)
+                .ifPresent(cutoffId -> refreshTokenRepository.deleteByUsernameUpTo(username, cutoffId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean exists(String tokenId, long now) {
+        return refreshTokenRepository.existsByTokenHashAndExpiresAtGreaterThan(RefreshTokenStore.hash(tokenId), now);
+    }
+
+    @Override
+    public void delete(String tokenId) {
+        refreshTokenRepository.deleteByTokenHash(RefreshTokenStore.hash(tokenId));
+    }
+
+    @Override
+    public boolean rotate(String tokenId, String newTokenId, long newExpiresAt, long now) {
+        return refreshTokenRepository.rotate(
+                RefreshTokenStore.hash(tokenId), RefreshTokenStore.hash(newTokenId), newExpiresAt, now, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    public int deleteExpired(long now, int batchSize) {
+        return refreshTokenRepository.deleteExpired(now, batchSize);
+    }
+}
@@ -0,0 +1,292 @@
+package com.suyeon.suyeon.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suyeon.suyeon.dto.MemberImportErrorDto;
+import com.suyeon.suyeon.dto.MemberImportProgressDto;
+import com.suyeon.suyeon.dto.SignupRequestDto;
+import com.suyeon.suyeon.exception.DataIntegrityViolations;
+import com.suyeon.suyeon.repository.MemberBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * CSV/NDJSON으로 받은 회원 목록을 청크 단위로 가입시킵니다.
+ * 요청 본문을 한 줄씩 읽어 chunk-size개가 모이면 검증 → 중복 확인(IN 쿼리 한 번) → 병렬 해싱 → 배치 insert 순으로 처리하므로
+ * 파일 크기와 관계없이 메모리에는 청크 하나만 올라갑니다.
+ * 앞 청크는 이미 저장된 뒤라 파일 안의 청크 간 중복도 IN 쿼리에서 걸러지고, 같은 청크 안의 중복만 메모리에서 확인합니다.
+ * 해싱은 로그인용 PasswordHashingExecutor와 분리된 ForkJoinPool에서 실행해 대량 가입 중에도 로그인 대기열을 차지하지 않습니다.
+ */
+@Slf4j
+@Service
+@Profile("!reactive")
+@ConditionalOnProperty(name = "member.import.enabled", havingValue = "true")
+public class MemberImportService {
+
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+    // member.username / member.nickname 컬럼 크기(VARCHAR(255))입니다.
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final MemberBulkRepository memberBulkRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordPolicy passwordPolicy;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final ForkJoinPool hashingPool;
+
+    public MemberImportService(
+            MemberBulkRepository memberBulkRepository,
+            PasswordEncoder passwordEncoder,
+            PasswordPolicy passwordPolicy,
+            ObjectMapper objectMapper,
+            @Value("${member.import.chunk-size:1000}") int chunkSize,
+            @Value("${member.import.parallelism:0}") int parallelism) {
+        this.memberBulkRepository = memberBulkRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordPolicy = passwordPolicy;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        // 0이면 코어의 절반만 사용해 온라인 로그인 해싱에 CPU를 남겨 둡니다.
+        this.hashingPool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * reader를 끝까지 읽으며 청크마다 progress를 호출하고, 마지막에 done=true인 합계를 한 번 더 호출합니다.
+     * 잘못된 행은 errors에 담고 건너뜁니다. 배치 저장이 제약 위반으로 실패하면 그 청크만 한 행씩 다시 넣어 문제 행만 실패로 보고하고,
+     * 그 밖의 DB 오류는 해당 청크 전체를 실패로 보고한 뒤 다음 청크를 계속 처리합니다.
+     */
+    public MemberImportProgressDto importMembers(
+            BufferedReader reader, Format format, Consumer<MemberImportProgressDto> progress) throws IOException
+    {
+        Totals totals = new Totals();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && format == Format.CSV && isCsvHeader(line))) {
+                continue;
+            }
+            chunk.add(new Row(lineNumber, line, format));
+            if (chunk.size() == chunkSize) {
+                progress.accept(processChunk(chunk, totals));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            progress.accept(processChunk(chunk, totals));
+        }
+
+        MemberImportProgressDto summary = new MemberImportProgressDto(
+                totals.chunks, totals.processed, totals.imported, totals.failed, List.of(), true);
+        progress.accept(summary);
+        log.info("대량 가입을 마쳤습니다. 처리 {}건, 가입 {}건, 실패 {}건", totals.processed, totals.imported, totals.failed);
+        return summary;
+    }
+
+    private MemberImportProgressDto processChunk(List<Row> rows, Totals totals) {
+        List<MemberImportErrorDto> errors = new ArrayList<>();
+        List<SignupRequestDto> candidates = new ArrayList<>(rows.size());
+        List<Long> candidateLines = new ArrayList<>(rows.size());
+        Set<String> seen = new HashSet<>();
+
+        for (Row row : rows) {
+            SignupRequestDto dto;
+            try {
+                dto = parse(row.text(), row.format());
+            } catch (IllegalArgumentException e) {
+                errors.add(new MemberImportErrorDto(row.line(), null, e.getMessage()));
+                continue;
+            }
+
+            String reason = validate(dto);
+            if (reason == null && !seen.add(dto.getUsername())) {
+                reason = "파일 안에서 중복된 ID 입니다.";
+            }
+            if (reason != null) {
+                errors.add(new MemberImportErrorDto(row.line(), dto.getUsername(), reason));
+                continue;
+            }
+            candidates.add(dto);
+            candidateLines.add(row.line());
+        }
+
+        Set<String> existing = memberBulkRepository.findExistingUsernames(seen);
+        List<ForkJoinTask<MemberBulkRepository.NewMember>> hashing = new ArrayList<>(candidates.size());
+        List<Long> insertLines = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            SignupRequestDto dto = candidates.get(i);
+            if (existing.contains(dto.getUsername())) {
+                errors.add(new MemberImportErrorDto(candidateLines.get(i), dto.getUsername(), "이미 사용 중인 ID 입니다!"));
+                continue;
+            }
+            hashing.add(hashingPool.submit(() -> new MemberBulkRepository.NewMember(
+                    dto.getUsername(), passwordEncoder.encode(dto.getPassword()), dto.getNickname(), DEFAULT_ROLE)));
+            insertLines.add(candidateLines.get(i));
+        }
+
+        List<MemberBulkRepository.NewMember> members = new ArrayList<>(hashing.size());
+        for (ForkJoinTask<MemberBulkRepository.NewMember> task : hashing) {
+            members.add(task.join());
+        }
+
+        int imported = 0;
+        if (!members.isEmpty()) {
+            try {
+                memberBulkRepository.insertAll(members);
+                imported = members.size();
+            } catch (DataIntegrityViolationException e) {
+                // 중복 확인 뒤에 같은 ID로 가입한 요청 등 한 행만 잘못되어도 배치 전체가 롤백되므로 한 행씩 다시 넣습니다.
+                log.warn("대량 가입 청크 저장에 실패해 한 행씩 다시 저장합니다 : {}", e.getMostSpecificCause().getMessage());
+                for (int i = 0; i < members.size(); i++) {
+                    MemberBulkRepository.NewMember member = members.get(i);
+                    try {
+                        memberBulkRepository.insertAll(List.of(member));
+                        imported++;
+                    } catch (DataAccessException rowError) {
+                        errors.add(new MemberImportErrorDto(insertLines.get(i), member.username(), failureReason(rowError)));
+                    }
+                }
+            } catch (DataAccessException e) {
+                log.warn("대량 가입 청크 저장에 실패했습니다 : {}", e.getMessage());
+                for (int i = 0; i < members.size(); i++) {
+                    errors.add(new MemberImportErrorDto(insertLines.get(i), members.get(i).username(), "저장에 실패했습니다. 다시 시도해주세요."));
+                }
+            }
+        }
+
+        totals.chunks++;
+        totals.processed += rows.size();
+        totals.imported += imported;
+        totals.failed += rows.size() - imported;
+        return new MemberImportProgressDto(totals.chunks, totals.processed, totals.imported, totals.failed, errors, false);
+    }
+
+    private SignupRequestDto parse(String text, Format format) {
+        if (format == Format.NDJSON) {
+            try {
+                return objectMapper.readValue(text, SignupRequestDto.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+            }
+        }
+
+        List<String> fields = splitCsvLine(text);
+        if (fields.size() != 3) {
+            throw new IllegalArgumentException("username,password,nickname 세 개의 필드가 필요합니다.");
+        }
+        return new SignupRequestDto(fields.get(0).trim(), fields.get(1), fields.get(2).trim());
+    }
+
+    /**
+     * RFC 4180 형식으로 한 줄을 나눕니다. 쉼표나 따옴표가 들어간 값은 "Pass,word1!"처럼 큰따옴표로 감싸고
+     * 값 안의 큰따옴표는 ""로 씁니다. 한 줄씩 읽으므로 따옴표 안의 줄바꿈은 지원하지 않습니다.
+     */
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        int length = line.length();
+        while (true) {
+            if (i < length && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < length && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < length && line.charAt(i) != ',') {
+                    throw new IllegalArgumentException("닫는 따옴표 뒤에는 쉼표가 와야 합니다.");
+                }
+            } else {
+                while (i < length && line.charAt(i) != ',') {
+                    field.append(line.charAt(i++));
+                }
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= length) {
+                return fields;
+            }
+            i++;
+        }
+    }
+
+    private String validate(SignupRequestDto dto) {
+        if (dto.getUsername() == null || dto.getUsername().isBlank()) {
+            return "아이디가 비어 있습니다.";
+        }
+        if (dto.getUsername().length() > MAX_COLUMN_LENGTH) {
+            return "아이디는 " + MAX_COLUMN_LENGTH + "자 이하여야 합니다.";
+        }
+        if (dto.getNickname() != null && dto.getNickname().length() > MAX_COLUMN_LENGTH) {
+            return "닉네임은 " + MAX_COLUMN_LENGTH + "자 이하여야 합니다.";
+        }
+        PasswordPolicy.Result result = passwordPolicy.validate(dto.getPassword());
+        if (!result.isValid()) {
+            return result.getViolations().iterator().next().getMessage();
+        }
+        return null;
+    }
+
+    private static String failureReason(DataAccessException e) {
+        if (e instanceof DataIntegrityViolationException violation) {
+            return DataIntegrityViolations.isUsernameDuplicate(violation)
+                    ? "이미 사용 중인 ID 입니다!"
+                    : "저장할 수 없는 값이 포함되어 있습니다!";
+        }
+        return "저장에 실패했습니다. 다시 시도해주세요.";
+    }
+
+    private static boolean isCsvHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith("username,");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdown();
+    }
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private record Row(long line, String text, Format format) {
+    }
+
+    private static class Totals {
+        private int chunks;
+        private long processed;
+        private long imported;
+        private long failed;
+    }
+}
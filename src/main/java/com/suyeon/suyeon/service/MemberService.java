@@ -1,45 +1,59 @@
 package com.suyeon.suyeon.service;
 
+import com.suyeon.suyeon.config.CacheConfig;
+import com.suyeon.suyeon.jwt.JwtClaims;
 import com.suyeon.suyeon.config.JwtUtil;
+import com.suyeon.suyeon.config.PasswordHashingExecutor;
+import com.suyeon.suyeon.config.TokenDenylist;
 import com.suyeon.suyeon.dto.*;
 import com.suyeon.suyeon.entity.Member;
+import com.suyeon.suyeon.exception.DataIntegrityViolations;
+import com.suyeon.suyeon.exception.InvalidRefreshTokenException;
+import com.suyeon.suyeon.repository.MemberCredentials;
+import com.suyeon.suyeon.repository.MemberProfile;
 import com.suyeon.suyeon.repository.MemberRepository;
-import jakarta.servlet.http.Cookie;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Transactional
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordPolicy passwordPolicy;
     private final JwtUtil jwtUtil;
-    private static final long ACCESS_TOKEN_VALIDITY_DURATION = 60 * 60 * 1000L;
-    private static final long REFRESH_TOKEN_VALIDITY_DURATION = 90 * 24 * 60 * 60 * 1000L;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenDenylist tokenDenylist;
 
+    @CacheEvict(cacheNames = CacheConfig.PROFILE_CACHE, key = "#requestDto.username")
+    @Timed(value = "member.service", extraTags = {"operation", "signup"}, histogram = true)
     public SignupResponseDto signup(SignupRequestDto requestDto)
     {
-        if (memberRepository.existsByUsername(requestDto.getUsername()))
-            throw new DuplicateKeyException("이미 사용 중인 ID 입니다!");
-
         String password = requestDto.getPassword();
-        if (!isValidPassword(password)) {
+        if (!passwordPolicy.isValid(password)) {
             throw new IllegalArgumentException("비밀번호는 최소 8자 이상, 대소문자, 숫자, 특수문자를 포함해야 합니다.");
         }
 
@@ -47,63 +61,130 @@ public class MemberService {
         member.setUsername(requestDto.getUsername());
         member.setNickname(requestDto.getNickname());
         member.setRole("ROLE_USER");
-        String encodedPassword = passwordEncoder.encode(requestDto.getPassword());
+        String encodedPassword = passwordHashingExecutor.encode(requestDto.getPassword());
         member.setPassword(encodedPassword);
-        String refreshToken = jwtUtil.createJwt(member.getUsername(), "refresh", "suyeon", REFRESH_TOKEN_VALIDITY_DURATION);
-        member.setRefreshToken(refreshToken);
-        memberRepository.save(member);
+        // username 중복은 uk_member_username 제약 위반으로 감지하고, 다른 무결성 오류는 그대로 전달합니다.
+        try {
+            memberRepository.save(member);
+        } catch (DataIntegrityViolationException e) {
+            if (DataIntegrityViolations.isUsernameDuplicate(e)) {
+                throw new DuplicateKeyException("이미 사용 중인 ID 입니다!", e);
+            }
+            throw e;
+        }
 
         List<AuthorityDto> authorities = new ArrayList<>();
         authorities.add(new AuthorityDto("ROLE_USER"));
 
-        SignupResponseDto responseDto = modelMapper.map(member, SignupResponseDto.class);
-        responseDto.setAuthorities(authorities);
-        return responseDto;
-    }
-
-    private boolean isValidPassword(String password) {
-
-        String regex = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$";
-        Pattern pattern = Pattern.compile(regex);
-        return pattern.matcher(password).matches();
+        return SignupResponseDto.from(member, authorities);
     }
 
+    @Timed(value = "member.service", extraTags = {"operation", "sign"}, histogram = true)
     public SignResponseDto sign(SignRequestDto requestDto, HttpServletResponse response)
     {
-        Member member = memberRepository.findByUsername(requestDto.getUsername())
+        MemberCredentials credentials = memberRepository.findCredentialsByUsername(requestDto.getUsername())
                 .orElseThrow(() -> new UsernameNotFoundException("해당 유저는 존재하지 않습니다 : " +requestDto.getUsername()));
 
-        if (!passwordEncoder.matches(requestDto.getPassword(), member.getPassword())) {
+        if (!passwordHashingExecutor.matches(requestDto.getPassword(), credentials.getPassword())) {
             throw new BadCredentialsException("비밀번호가 일치하지 않습니다!");
         }
 
-        String refreshToken = member.getRefreshToken();
-        if (jwtUtil.isExpired(member.getRefreshToken()) || member.getRefreshToken() == null)
-        {
-            refreshToken = jwtUtil.createJwt(member.getUsername(), "refresh", "suyeon", REFRESH_TOKEN_VALIDITY_DURATION);
-            member.setRefreshToken(refreshToken);
-            memberRepository.save(member);
+        if (passwordHashingExecutor.upgradeEncoding(credentials.getPassword())) {
+            String encodedPassword = passwordHashingExecutor.encode(requestDto.getPassword());
+            memberRepository.updatePassword(credentials.getUsername(), encodedPassword, LocalDateTime.now());
         }
-        String accessToken = jwtUtil.createJwt(member.getUsername(), "access", "suyeon", ACCESS_TOKEN_VALIDITY_DURATION);
 
-        Cookie refreshTokenCookie = new Cookie("refresh", refreshToken);
-        refreshTokenCookie.setHttpOnly(true);
-        refreshTokenCookie.setSecure(false);
-        refreshTokenCookie.setPath("/");
-        refreshTokenCookie.setMaxAge(7 * 24 * 60 * 60);
-        refreshTokenCookie.setAttribute("SameSite", "Lax");
-        response.addCookie(refreshTokenCookie);
+        // 기기(로그인)마다 새 Refresh Token을 발급하고 member 행이 아닌 별도 저장소에 기록합니다.
+        JwtClaims refreshClaims = jwtUtil.newClaims(credentials.getUsername(), "refresh", "suyeon", JwtUtil.REFRESH_TOKEN_VALIDITY_DURATION);
+        String refreshToken = jwtUtil.createJwt(refreshClaims);
+        refreshTokenStore.save(credentials.getUsername(), refreshClaims.id(), refreshClaims.expiration());
+        String accessToken = jwtUtil.createAccessToken(credentials.getUsername(), credentials.getRole(), JwtUtil.ACCESS_TOKEN_VALIDITY_DURATION);
+
+        addRefreshTokenCookie(response, refreshToken);
 
         SignResponseDto responseDto = new SignResponseDto();
         responseDto.setToken(accessToken);
         return responseDto;
     }
 
+    /**
+     * 쿠키의 Refresh Token으로 Access/Refresh Token을 함께 재발급합니다.
+     * 비밀번호 해싱 없이 저장소 교체(rotate)와 권한(role) 컬럼 조회 한 번으로 처리합니다.
+     */
+    @Timed(value = "member.service", extraTags = {"operation", "refresh"}, histogram = true)
+    public SignResponseDto refresh(HttpServletRequest request, HttpServletResponse response)
+    {
+        String refreshToken = jwtUtil.resolveRefreshToken(request);
+        if (refreshToken == null) {
+            throw new InvalidRefreshTokenException("Refresh Token이 없습니다! 재로그인하세요!");
+        }
+
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidRefreshTokenException("유효하지 않은 Refresh Token입니다! 재로그인하세요!");
+        }
+        if (!"refresh".equals(claims.type()) || claims.id() == null) {
+            throw new InvalidRefreshTokenException("유효하지 않은 Refresh Token입니다! 재로그인하세요!");
+        }
+
+        JwtClaims newRefreshClaims = jwtUtil.newClaims(claims.username(), "refresh", "suyeon", JwtUtil.REFRESH_TOKEN_VALIDITY_DURATION);
+        if (!refreshTokenStore.rotate(claims.id(), newRefreshClaims.id(), newRefreshClaims.expiration(), System.currentTimeMillis())) {
+            throw new InvalidRefreshTokenException("이미 사용되었거나 만료된 Refresh Token입니다! 재로그인하세요!");
+        }
+
+        // 권한이 바뀌었을 수 있으므로 role은 Refresh Token에 담지 않고 갱신할 때마다 회원 행에서 다시 읽습니다.
+        String role = memberRepository.findRoleByUsername(claims.username())
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 Refresh Token입니다! 재로그인하세요!"));
+
+        String newRefreshToken = jwtUtil.createJwt(newRefreshClaims);
+        String accessToken = jwtUtil.createAccessToken(claims.username(), role, JwtUtil.ACCESS_TOKEN_VALIDITY_DURATION);
+
+        addRefreshTokenCookie(response, newRefreshToken);
+
+        SignResponseDto responseDto = new SignResponseDto();
+        responseDto.setToken(accessToken);
+        return responseDto;
+    }
+
+    /**
+     * 현재 Access Token을 exp까지 폐기 목록에 올리고, 쿠키의 Refresh Token을 저장소에서 지웁니다.
+     */
+    public void logout(Authentication auth, HttpServletRequest request, HttpServletResponse response)
+    {
+        if (!(auth.getDetails() instanceof JwtClaims accessClaims)) {
+            throw new BadCredentialsException("Access Token 정보가 없습니다! 다시 로그인하세요!");
+        }
+        tokenDenylist.revoke(accessClaims.id(), accessClaims.expiration());
+
+        String refreshToken = jwtUtil.resolveRefreshToken(request);
+        if (refreshToken != null) {
+            try {
+                JwtClaims refreshClaims = jwtUtil.parseClaims(refreshToken);
+                if (refreshClaims.id() != null && refreshClaims.username().equals(accessClaims.username())) {
+                    refreshTokenStore.delete(refreshClaims.id());
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("로그아웃 중 유효하지 않은 Refresh Token을 무시합니다 : {}", e.getMessage());
+            }
+        }
+
+        response.addHeader(HttpHeaders.SET_COOKIE, JwtUtil.expiredRefreshTokenCookie().toString());
+    }
+
+    private void addRefreshTokenCookie(HttpServletResponse response, String refreshToken) {
+        response.addHeader(HttpHeaders.SET_COOKIE, JwtUtil.refreshTokenCookie(refreshToken).toString());
+    }
+
+    @Timed(value = "member.service", extraTags = {"operation", "profile"}, histogram = true)
+    @Cacheable(cacheNames = CacheConfig.PROFILE_CACHE, key = "#username")
+    @Transactional(readOnly = true)
     public ProfileResponseDto profile(String username)
     {
-        Member member = memberRepository.findByUsername(username).orElseThrow(() -> new UsernameNotFoundException("해당 유저는 존재하지 않습니다 : " + username));
+        MemberProfile profile = memberRepository.findProfileByUsername(username).orElseThrow(() -> new UsernameNotFoundException("해당 유저는 존재하지 않습니다 : " + username));
 
-        return modelMapper.map(member, ProfileResponseDto.class);
+        return ProfileResponseDto.from(profile);
 
     }
 }
@@ -0,0 +1,139 @@
+package com.suyeon.suyeon.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 비밀번호 정책 검사기입니다. 문자열을 한 번만 순회하며 문자 종류를 확인합니다.
+ * 가능한 모든 검사 결과를 미리 만들어 두기 때문에 검사 중에는 객체를 할당하지 않습니다.
+ */
+@Component
+public class PasswordPolicy {
+
+    public static final int MIN_LENGTH = 8;
+
+    private static final int LOWERCASE = 1;
+    private static final int UPPERCASE = 1 << 1;
+    private static final int DIGIT = 1 << 2;
+    private static final int SPECIAL = 1 << 3;
+
+    private static final Result[] RESULTS = new Result[1 << Violation.values().length];
+
+    static {
+        for (int mask = 0; mask < RESULTS.length; mask++) {
+            RESULTS[mask] = new Result(mask);
+        }
+    }
+
+    public enum Violation {
+        TOO_SHORT("비밀번호는 최소 " + MIN_LENGTH + "자 이상이어야 합니다."),
+        MISSING_LOWERCASE("비밀번호에 소문자가 포함되어야 합니다."),
+        MISSING_UPPERCASE("비밀번호에 대문자가 포함되어야 합니다."),
+        MISSING_DIGIT("비밀번호에 숫자가 포함되어야 합니다."),
+        MISSING_SPECIAL("비밀번호에 특수문자(@$!%*?&)가 포함되어야 합니다."),
+        INVALID_CHARACTER("비밀번호에는 영문 대소문자, 숫자, 특수문자(@$!%*?&)만 사용할 수 있습니다.");
+
+        private final String message;
+
+        Violation(String message) {
+            this.message = message;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        private int bit() {
+            return 1 << ordinal();
+        }
+    }
+
+    public Result validate(CharSequence password) {
+        if (password == null) {
+            return RESULTS[RESULTS.length - 1 - Violation.INVALID_CHARACTER.bit()];
+        }
+
+        int length = password.length();
+        int seen = 0;
+        boolean invalidCharacter = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                seen |= LOWERCASE;
+            } else if (c >= 'A' && c <= 'Z') {
+                seen |= UPPERCASE;
+            } else if (c >= '0' && c <= '9') {
+                seen |= DIGIT;
+            } else if (isSpecial(c)) {
+                seen |= SPECIAL;
+            } else {
+                invalidCharacter = true;
+            }
+        }
+
+        int violations = 0;
+        if (length < MIN_LENGTH) {
+            violations |= Violation.TOO_SHORT.bit();
+        }
+        if ((seen & LOWERCASE) == 0) {
+            violations |= Violation.MISSING_LOWERCASE.bit();
+        }
+        if ((seen & UPPERCASE) == 0) {
+            violations |= Violation.MISSING_UPPERCASE.bit();
+        }
+        if ((seen & DIGIT) == 0) {
+            violations |= Violation.MISSING_DIGIT.bit();
+        }
+        if ((seen & SPECIAL) == 0) {
+            violations |= Violation.MISSING_SPECIAL.bit();
+        }
+        if (invalidCharacter) {
+            violations |= Violation.INVALID_CHARACTER.bit();
+        }
+        return RESULTS[violations];
+    }
+
+    public boolean isValid(CharSequence password) {
+        return validate(password).isValid();
+    }
+
+    private static boolean isSpecial(char c) {
+        return switch (c) {
+            case '@', '$', '!', '%', '*', '?', '&' -> true;
+            default -> false;
+        };
+    }
+
+    public static final class Result {
+
+        private final int mask;
+        private final Set<Violation> violations;
+
+        private Result(int mask) {
+            EnumSet<Violation> violations = EnumSet.noneOf(Violation.class);
+            for (Violation violation : Violation.values()) {
+                if ((mask & violation.bit()) != 0) {
+                    violations.add(violation);
+                }
+            }
+            this.mask = mask;
+            this.violations = Collections.unmodifiableSet(violations);
+        }
+
+        public boolean isValid() {
+            return mask == 0;
+        }
+
+        public boolean has(Violation violation) {
+            return (mask & violation.bit()) != 0;
+        }
+
+        public Set<Violation> getViolations() {
+            return violations;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.suyeon.suyeon.service;
+
+import com.suyeon.suyeon.config.JwtUtil;
+import com.suyeon.suyeon.config.PasswordHashingExecutor;
+import com.suyeon.suyeon.dto.*;
+import com.suyeon.suyeon.exception.DataIntegrityViolations;
+import com.suyeon.suyeon.jwt.JwtClaims;
+import com.suyeon.suyeon.repository.ReactiveMemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * reactive 프로필의 회원 서비스입니다. 동작과 에러는 MemberService와 같습니다.
+ * DB 접근은 R2DBC로 논블로킹 처리하고, BCrypt는 PasswordHashingExecutor의 고정 크기 풀에서 실행해
+ * 이벤트 루프 스레드를 막지 않습니다.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveMemberService {
+
+    private final ReactiveMemberRepository memberRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordPolicy passwordPolicy;
+    private final JwtUtil jwtUtil;
+    private final Duration hashingTimeout;
+
+    public ReactiveMemberService(
+            ReactiveMemberRepository memberRepository,
+            PasswordHashingExecutor passwordHashingExecutor,
+            PasswordPolicy passwordPolicy,
+            JwtUtil jwtUtil,
+            @Value("${password.hashing.timeout-millis:5000}") long hashingTimeoutMillis) {
+        this.memberRepository = memberRepository;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.passwordPolicy = passwordPolicy;
+        this.jwtUtil = jwtUtil;
+        this.hashingTimeout = Duration.ofMillis(hashingTimeoutMillis);
+    }
+
+    public Mono<SignupResponseDto> signup(SignupRequestDto requestDto)
+    {
+        if (!passwordPolicy.isValid(requestDto.getPassword())) {
+            return Mono.error(new IllegalArgumentException("비밀번호는 최소 8자 이상, 대소문자, 숫자, 특수문자를 포함해야 합니다."));
+        }
+
+        return encode(requestDto.getPassword())
+                .flatMap(encodedPassword -> memberRepository.insert(
+                        requestDto.getUsername(), encodedPassword, requestDto.getNickname(), "ROLE_USER"))
+                .onErrorMap(
+                        e -> e instanceof DataIntegrityViolationException violation && DataIntegrityViolations.isUsernameDuplicate(violation),
+                        e -> new DuplicateKeyException("이미 사용 중인 ID 입니다!", e))
+                .thenReturn(new SignupResponseDto(
+                        requestDto.getUsername(), requestDto.getNickname(), List.of(new AuthorityDto("ROLE_USER"))));
+    }
+
+    public Mono<SignResponseDto> sign(SignRequestDto requestDto, ServerHttpResponse response)
+    {
+        return memberRepository.findCredentialsByUsername(requestDto.getUsername())
+                .switchIfEmpty(Mono.error(() -> new UsernameNotFoundException("해당 유저는 존재하지 않습니다 : " + requestDto.getUsername())))
+                .flatMap(credentials -> matches(requestDto.getPassword(), credentials.getPassword())
+                        .flatMap(matched -> {
+                            if (!matched) {
+                                return Mono.error(new BadCredentialsException("비밀번호가 일치하지 않습니다!"));
+                            }
+                            if (!passwordHashingExecutor.upgradeEncoding(credentials.getPassword())) {
+                                return Mono.just(credentials);
+                            }
+                            return encode(requestDto.getPassword())
+                                    .flatMap(encodedPassword -> memberRepository.updatePassword(credentials.getUsername(), encodedPassword))
+                                    .thenReturn(credentials);
+                        }))
+                .flatMap(credentials -> {
+                    String username = credentials.getUsername();
+                    JwtClaims refreshClaims = jwtUtil.newClaims(username, "refresh", "suyeon", JwtUtil.REFRESH_TOKEN_VALIDITY_DURATION);
+                    String refreshToken = jwtUtil.createJwt(refreshClaims);
+                    String accessToken = jwtUtil.createAccessToken(username, credentials.getRole(), JwtUtil.ACCESS_TOKEN_VALIDITY_DURATION);
+
+                    return memberRepository.saveRefreshToken(username, refreshClaims.id(), refreshClaims.expiration())
+                            .then(Mono.fromSupplier(() -> {
+                                response.addCookie(JwtUtil.refreshTokenCookie(refreshToken));
+                                return new SignResponseDto(accessToken);
+                            }));
+                });
+    }
+
+    public Mono<ProfileResponseDto> profile(String username)
+    {
+        return memberRepository.findProfileByUsername(username)
+                .map(ProfileResponseDto::from)
+                .switchIfEmpty(Mono.error(() -> new UsernameNotFoundException("해당 유저는 존재하지 않습니다 : " + username)));
+    }
+
+    private Mono<String> encode(String rawPassword) {
+        return hashing(Mono.fromFuture(() -> passwordHashingExecutor.encodeAsync(rawPassword)));
+    }
+
+    private Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return hashing(Mono.fromFuture(() -> passwordHashingExecutor.matchesAsync(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * MemberService의 동기 호출과 같은 제한 시간을 적용하고, 초과하면 429로 응답합니다.
+     */
+    private <T> Mono<T> hashing(Mono<T> task) {
+        return task.timeout(hashingTimeout)
+                .onErrorMap(TimeoutException.class,
+                        e -> new RejectedExecutionException("비밀번호 처리 대기 시간이 초과되었습니다.", e));
+    }
+}
@@ -0,0 +1,42 @@
+package com.suyeon.suyeon.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 Refresh Token을 주기적으로 나눠서 삭제합니다.
+ * 한 번에 batch-size개씩 지워 긴 락이나 큰 undo 로그가 생기지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class RefreshTokenCleaner {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final int batchSize;
+
+    public RefreshTokenCleaner(
+            RefreshTokenStore refreshTokenStore,
+            @Value("${jwt.refresh-token.cleanup.batch-size:1000}") int batchSize) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.cleanup.interval-millis:600000}")
+    public void deleteExpiredTokens() {
+        long now = System.currentTimeMillis();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenStore.deleteExpired(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("만료된 Refresh Token {}개를 삭제했습니다.", total);
+        }
+    }
+}
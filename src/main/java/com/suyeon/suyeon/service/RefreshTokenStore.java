@@ -0,0 +1,45 @@
+package com.suyeon.suyeon.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Refresh Token 저장소입니다. 토큰 ID(jti)는 SHA-256 해시로만 보관합니다.
+ * jwt.refresh-token.store 설정으로 JPA(jpa) 또는 메모리(memory) 구현을 선택합니다.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 토큰을 저장합니다. 회원별 토큰은 jwt.refresh-token.max-per-user개까지만 유지하고, 넘으면 가장 오래된 로그인의 토큰을 지웁니다.
+     */
+    void save(String username, String tokenId, long expiresAt);
+
+    /**
+     * 저장되어 있고 아직 만료되지 않은 토큰인지 확인합니다.
+     */
+    boolean exists(String tokenId, long now);
+
+    void delete(String tokenId);
+
+    /**
+     * 저장된 토큰을 새 토큰으로 교체합니다. 조회와 교체를 한 번에 처리하며,
+     * 토큰이 없거나 만료되었거나 이미 교체된 경우 false를 반환합니다.
+     */
+    boolean rotate(String tokenId, String newTokenId, long newExpiresAt, long now);
+
+    /**
+     * 만료된 토큰을 최대 batchSize개까지 삭제하고 삭제한 개수를 반환합니다.
+     */
+    int deleteExpired(long now, int batchSize);
+
+    static String hash(String tokenId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tokenId.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
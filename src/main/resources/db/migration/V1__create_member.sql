@@ -0,0 +1,13 @@
+CREATE TABLE member
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    username      VARCHAR(255) NOT NULL,
+    password      VARCHAR(255),
+    nickname      VARCHAR(255),
+    refresh_token VARCHAR(512),
+    role          VARCHAR(255),
+    created_at    DATETIME(6),
+    modified_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_member_username UNIQUE (username)
+) ENGINE = InnoDB;
@@ -0,0 +1,15 @@
+CREATE TABLE refresh_token
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    username    VARCHAR(255) NOT NULL,
+    token_hash  VARCHAR(64)  NOT NULL,
+    expires_at  BIGINT       NOT NULL,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_token_hash UNIQUE (token_hash),
+    INDEX idx_refresh_token_username (username),
+    INDEX idx_refresh_token_expires_at (expires_at)
+) ENGINE = InnoDB;
+
+ALTER TABLE member DROP COLUMN refresh_token;
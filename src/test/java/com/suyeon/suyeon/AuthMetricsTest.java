@@ -0,0 +1,80 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.AuthMetrics;
+import com.suyeon.suyeon.config.JwtClaimsCache;
+import com.suyeon.suyeon.config.JwtFilter;
+import com.suyeon.suyeon.config.JwtUtil;
+import com.suyeon.suyeon.config.TokenDenylist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuthMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtUtil jwtUtil;
+    private JwtClaimsCache jwtClaimsCache;
+    private TokenDenylist tokenDenylist;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    public void setUp() {
+        jwtUtil = new JwtUtil("cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c");
+        jwtClaimsCache = new JwtClaimsCache(jwtUtil, 100);
+        tokenDenylist = new TokenDenylist(1000, 0.01);
+        jwtClaimsCache.bindTo(meterRegistry);
+        tokenDenylist.bindTo(meterRegistry);
+        jwtFilter = new JwtFilter(jwtUtil, jwtClaimsCache, tokenDenylist, new AuthMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void filter_ShouldCountRejectionByReason_WhenTokenIsMissingOrRevoked() throws Exception
+    {
+        filter(null);
+
+        String token = jwtUtil.createJwt("testMember", "access", "suyeon", 60 * 60 * 1000L);
+        tokenDenylist.revoke(jwtUtil.parseClaims(token).id(), System.currentTimeMillis() + 60_000);
+        filter("Bearer " + token);
+
+        assertEquals(1.0, meterRegistry.get("auth.rejections").tag("reason", "TOKEN_MISSING").counter().count());
+        assertEquals(1.0, meterRegistry.get("auth.rejections").tag("reason", "REVOKED_TOKEN").counter().count());
+        assertEquals(1.0, meterRegistry.get("jwt.denylist.lookups").tag("result", "revoked").functionCounter().count());
+    }
+
+    @Test
+    public void filter_ShouldRecordParseTimeAndCacheHits_WhenTokenIsValid() throws Exception
+    {
+        String token = jwtUtil.createJwt("testMember", "access", "suyeon", 60 * 60 * 1000L);
+
+        filter("Bearer " + token);
+        filter("Bearer " + token);
+
+        assertEquals(2, meterRegistry.get("auth.token.parse").timer().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt.claims").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("jwt.denylist.lookups").tag("result", "bloom_negative").functionCounter().count());
+    }
+
+    private MockHttpServletResponse filter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/profile");
+        request.setServletPath("/api/members/profile");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
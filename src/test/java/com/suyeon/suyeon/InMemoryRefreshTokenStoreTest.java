@@ -0,0 +1,64 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.service.InMemoryRefreshTokenStore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryRefreshTokenStoreTest {
+
+    private final InMemoryRefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore(5);
+
+    @Test
+    public void exists_ShouldKeepEveryDevice_WhenUserSignsInTwice()
+    {
+        long now = System.currentTimeMillis();
+        refreshTokenStore.save("testMember", "device-1", now + 60_000);
+        refreshTokenStore.save("testMember", "device-2", now + 60_000);
+
+        assertTrue(refreshTokenStore.exists("device-1", now));
+        assertTrue(refreshTokenStore.exists("device-2", now));
+
+        refreshTokenStore.delete("device-1");
+        assertFalse(refreshTokenStore.exists("device-1", now));
+        assertTrue(refreshTokenStore.exists("device-2", now));
+    }
+
+    @Test
+    public void deleteExpired_ShouldDeleteAtMostBatchSize()
+    {
+        long now = System.currentTimeMillis();
+        refreshTokenStore.save("testMember", "expired-1", now - 1);
+        refreshTokenStore.save("testMember", "expired-2", now - 1);
+        refreshTokenStore.save("testMember", "expired-3", now - 1);
+        refreshTokenStore.save("testMember", "alive", now + 60_000);
+
+        assertEquals(2, refreshTokenStore.deleteExpired(now, 2));
+        assertEquals(1, refreshTokenStore.deleteExpired(now, 2));
+        assertEquals(0, refreshTokenStore.deleteExpired(now, 2));
+        assertTrue(refreshTokenStore.exists("alive", now));
+    }
+
+    @Test
+    public void save_ShouldEvictOldestSignIn_WhenUserExceedsMaxTokens()
+    {
+        InMemoryRefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore(3);
+        long now = System.currentTimeMillis();
+        for (int i = 1; i <= 4; i++) {
+            refreshTokenStore.save("testMember", "device-" + i, now + 60_000);
+        }
+        refreshTokenStore.save("otherMember", "other-device", now + 60_000);
+
+        assertFalse(refreshTokenStore.exists("device-1", now));
+        assertTrue(refreshTokenStore.exists("device-2", now));
+        assertTrue(refreshTokenStore.exists("device-4", now));
+        assertTrue(refreshTokenStore.exists("other-device", now));
+
+        assertTrue(refreshTokenStore.rotate("device-2", "device-2-rotated", now + 60_000, now));
+        refreshTokenStore.save("testMember", "device-5", now + 60_000);
+
+        assertFalse(refreshTokenStore.exists("device-3", now));
+        assertTrue(refreshTokenStore.exists("device-2-rotated", now));
+        assertTrue(refreshTokenStore.exists("device-5", now));
+    }
+}
@@ -0,0 +1,79 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.JwksPublisher;
+import com.suyeon.suyeon.config.JwtKeyRing;
+import com.suyeon.suyeon.config.JwtUtil;
+import com.suyeon.suyeon.controller.JwksController;
+import com.suyeon.suyeon.jwt.JwtVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.security.KeyPair;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class JwksControllerTest {
+
+    @Test
+    public void jwks_ShouldReturn304_WhenETagMatches() throws Exception
+    {
+        MockMvc mockMvc = mockMvc(keyRing("2025-06", Jwts.SIG.ES256));
+
+        MvcResult result = mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kid").value("2025-06"))
+                .andExpect(jsonPath("$.keys[0].kty").value("EC"))
+                .andExpect(jsonPath("$.keys[0].crv").value("P-256"))
+                .andReturn();
+        String etag = result.getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/.well-known/jwks.json").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void verify_ShouldAcceptToken_WhenKeyIsPublishedInJwks() throws Exception
+    {
+        for (SignatureAlgorithm algorithm : List.of(Jwts.SIG.ES256, Jwts.SIG.ES384, Jwts.SIG.EdDSA)) {
+            JwtKeyRing keyRing = keyRing("kid-" + algorithm.getId(), algorithm);
+            String jwks = mockMvc(keyRing).perform(get("/.well-known/jwks.json"))
+                    .andReturn().getResponse().getContentAsString();
+
+            String token = new JwtUtil(keyRing).createJwt("testMember", "access", "suyeon", 60_000L);
+
+            assertEquals("testMember", JwtVerifier.fromJwks(jwks).verify(token).username());
+        }
+    }
+
+    @Test
+    public void jwks_ShouldNotPublishHmacSecret()
+    {
+        JwksPublisher jwksPublisher = new JwksPublisher(
+                JwtKeyRing.hmac("cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c"));
+
+        assertEquals("{\"keys\":[]}", jwksPublisher.current().json());
+    }
+
+    private static MockMvc mockMvc(JwtKeyRing keyRing) {
+        return MockMvcBuilders.standaloneSetup(new JwksController(new JwksPublisher(keyRing), 300)).build();
+    }
+
+    private static JwtKeyRing keyRing(String kid, SignatureAlgorithm algorithm) {
+        KeyPair keyPair = algorithm.keyPair().build();
+        return new JwtKeyRing(
+                new JwtKeyRing.SigningKey(kid, algorithm, keyPair.getPrivate()),
+                List.of(new JwtKeyRing.VerificationKey(kid, algorithm, keyPair.getPublic(), null)),
+                null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.jwt.JwtClaims;
+import com.suyeon.suyeon.config.JwtClaimsCache;
+import com.suyeon.suyeon.config.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtClaimsCacheTest {
+
+    private JwtUtil jwtUtil;
+    private JwtClaimsCache jwtClaimsCache;
+
+    @BeforeEach
+    public void setUp() {
+        jwtUtil = new JwtUtil("cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c");
+        jwtClaimsCache = new JwtClaimsCache(jwtUtil, 100);
+    }
+
+    @Test
+    public void get_ShouldHitCache_WhenSameTokenIsPresentedTwice()
+    {
+        String token = jwtUtil.createJwt("testMember", "access", "suyeon", 1000L * 60 * 60);
+
+        JwtClaims first = jwtClaimsCache.get(token);
+        JwtClaims second = jwtClaimsCache.get(token);
+
+        assertSame(first, second);
+        assertEquals(1, jwtClaimsCache.missCount());
+        assertEquals(1, jwtClaimsCache.hitCount());
+    }
+
+    @Test
+    public void get_ShouldThrowAndNotCache_WhenTokenIsInvalid()
+    {
+        assertThrows(JwtException.class, () -> jwtClaimsCache.get("a.b.c"));
+        assertThrows(JwtException.class, () -> jwtClaimsCache.get("a.b.c"));
+
+        assertEquals(0, jwtClaimsCache.hitCount());
+    }
+}
@@ -0,0 +1,128 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.jwt.JwtClaims;
+import com.suyeon.suyeon.config.JwtKeyProperties;
+import com.suyeon.suyeon.config.JwtKeyRing;
+import com.suyeon.suyeon.config.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtKeyRingTest {
+
+    private static final String SECRET = "cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c";
+
+    @TempDir
+    Path keyDir;
+
+    @Test
+    public void createJwt_ShouldSignWithActiveKid_WhenAsymmetricKeyIsActive() throws IOException
+    {
+        JwtKeyProperties properties = properties("2025-06",
+                key("2025-06", Jwts.SIG.ES256));
+        JwtUtil jwtUtil = new JwtUtil(JwtKeyRing.load(properties, SECRET));
+
+        String token = jwtUtil.createJwt("testMember", "access", "suyeon", 60_000L);
+
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+        assertTrue(header.contains("\"kid\":\"2025-06\""), header);
+        assertEquals("testMember", jwtUtil.parseClaims(token).username());
+    }
+
+    @Test
+    public void parseClaims_ShouldAcceptEdDsa_WhenEdDsaKeyIsActive() throws IOException
+    {
+        JwtKeyProperties properties = properties("ed-1",
+                key("ed-1", Jwts.SIG.EdDSA));
+        JwtUtil jwtUtil = new JwtUtil(JwtKeyRing.load(properties, SECRET));
+
+        JwtClaims claims = jwtUtil.parseClaims(jwtUtil.createJwt("testMember", "access", "suyeon", 60_000L));
+
+        assertEquals("testMember", claims.username());
+    }
+
+    @Test
+    public void parseClaims_ShouldAcceptOldKid_WhenKeyIsRotatedWithinOverlap() throws IOException
+    {
+        JwtKeyProperties.Key oldKey = key("old", Jwts.SIG.ES256);
+        JwtUtil oldJwtUtil = new JwtUtil(JwtKeyRing.load(properties("old", oldKey), SECRET));
+        String oldToken = oldJwtUtil.createJwt("testMember", "access", "suyeon", 60_000L);
+        String hmacToken = new JwtUtil(SECRET).createJwt("testMember", "access", "suyeon", 60_000L);
+
+        oldKey.setPrivateKey(null);
+        oldKey.setVerifyUntil(Instant.now().plusSeconds(60));
+        JwtKeyProperties rotated = properties("new", key("new", Jwts.SIG.ES256));
+        rotated.getRing().add(oldKey);
+        JwtUtil newJwtUtil = new JwtUtil(JwtKeyRing.load(rotated, SECRET));
+
+        assertEquals("testMember", newJwtUtil.parseClaims(oldToken).username());
+        assertEquals("testMember", newJwtUtil.parseClaims(hmacToken).username());
+    }
+
+    @Test
+    public void parseClaims_ShouldReject_WhenKidIsRetiredOrUnknown() throws IOException
+    {
+        JwtKeyProperties.Key oldKey = key("old", Jwts.SIG.ES256);
+        String oldToken = new JwtUtil(JwtKeyRing.load(properties("old", oldKey), SECRET))
+                .createJwt("testMember", "access", "suyeon", 60_000L);
+
+        oldKey.setVerifyUntil(Instant.now().minusSeconds(1));
+        JwtUtil retired = new JwtUtil(JwtKeyRing.load(properties("old", oldKey), SECRET));
+        assertThrows(MalformedJwtException.class, () -> retired.parseClaims(oldToken));
+
+        JwtUtil unknown = new JwtUtil(JwtKeyRing.load(properties("other", key("other", Jwts.SIG.ES256)), SECRET));
+        assertThrows(MalformedJwtException.class, () -> unknown.parseClaims(oldToken));
+    }
+
+    @Test
+    public void parseClaims_ShouldRejectHmacToken_WhenFallbackIsDisabled() throws IOException
+    {
+        String hmacToken = new JwtUtil(SECRET).createJwt("testMember", "access", "suyeon", 60_000L);
+        JwtKeyProperties properties = properties("new", key("new", Jwts.SIG.ES256));
+        properties.setHmacFallback(false);
+        JwtUtil jwtUtil = new JwtUtil(JwtKeyRing.load(properties, SECRET));
+
+        assertThrows(UnsupportedJwtException.class, () -> jwtUtil.verifyFormat(hmacToken));
+    }
+
+    private JwtKeyProperties properties(String activeKid, JwtKeyProperties.Key... keys) {
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setActiveKid(activeKid);
+        properties.getRing().addAll(List.of(keys));
+        return properties;
+    }
+
+    private JwtKeyProperties.Key key(String kid, SignatureAlgorithm algorithm) throws IOException {
+        KeyPair keyPair = algorithm.keyPair().build();
+
+        JwtKeyProperties.Key key = new JwtKeyProperties.Key();
+        key.setKid(kid);
+        key.setAlgorithm(algorithm.getId());
+        key.setPublicKey(new FileSystemResource(writePem(kid + ".pub.pem", "PUBLIC KEY", keyPair.getPublic())));
+        key.setPrivateKey(new FileSystemResource(writePem(kid + ".pem", "PRIVATE KEY", keyPair.getPrivate())));
+        return key;
+    }
+
+    private Path writePem(String fileName, String type, Key key) throws IOException {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII))
+                .encodeToString(key.getEncoded());
+        String pem = "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+        return Files.writeString(keyDir.resolve(fileName), pem);
+    }
+}
@@ -1,9 +1,13 @@
 package com.suyeon.suyeon;
 
+import com.suyeon.suyeon.jwt.JwtClaims;
+import com.suyeon.suyeon.jwt.JwtTokenFormat;
 import com.suyeon.suyeon.config.JwtUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +19,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -76,6 +82,21 @@ public class JwtUtilTest {
         assertNotNull(claims.getExpiration());
     }
 
+    @Test
+    public void parseClaims_ShouldReturnAllClaims_WhenTokenPassed()
+    {
+        String token = jwtUtil.createJwt("testMember", "access", "suyeon", 1000L * 60 * 60);
+
+        JwtClaims claims = jwtUtil.parseClaims(token);
+
+        assertEquals("testMember", claims.username());
+        assertEquals("suyeon", claims.issuer());
+        assertTrue(claims.isAccessToken());
+        assertFalse(claims.isExpired(System.currentTimeMillis()));
+        assertFalse(claims.isRefreshable(System.currentTimeMillis()));
+        assertEquals(1000L * 60 * 60, claims.expiration() - claims.issuedAt());
+    }
+
     @Test
     public void getIsExpiration_ShouldExpiredJwtException_WhenTokenExpired() throws InterruptedException {
         String expiredToken = jwtUtil.createJwt("testMember", "access", "suyeon", 1L);
@@ -117,6 +138,38 @@ public class JwtUtilTest {
     }
 
 
+    @Nested
+    class VerifyFormatMethod {
+        @Test
+        public void shouldPass_WhenTokenIsIssuedByJwtUtil() {
+            String token = jwtUtil.createJwt("testMember", "access", "suyeon", 1000L * 60 * 60);
+            assertDoesNotThrow(() -> jwtUtil.verifyFormat(token));
+        }
+
+        @Test
+        public void shouldThrowMalformed_WhenSegmentCountIsWrong() {
+            assertThrows(MalformedJwtException.class, () -> jwtUtil.verifyFormat("abc.def"));
+            assertThrows(MalformedJwtException.class, () -> jwtUtil.verifyFormat("a.b.c.d"));
+        }
+
+        @Test
+        public void shouldThrowMalformed_WhenTokenHasNonBase64UrlCharacters() {
+            assertThrows(MalformedJwtException.class, () -> jwtUtil.verifyFormat("eyJhbGciOiJIUzI1NiJ9.e+/=.sig"));
+        }
+
+        @Test
+        public void shouldThrowMalformed_WhenTokenIsOversized() {
+            String oversized = "a".repeat(JwtTokenFormat.MAX_TOKEN_LENGTH + 1);
+            assertThrows(MalformedJwtException.class, () -> jwtUtil.verifyFormat(oversized));
+        }
+
+        @Test
+        public void shouldThrowUnsupported_WhenAlgorithmIsNotAllowed() {
+            // {"alg":"none"}
+            assertThrows(UnsupportedJwtException.class, () -> jwtUtil.verifyFormat("eyJhbGciOiJub25lIn0.e30.c2ln"));
+        }
+    }
+
     @Nested
     class ResolveTokenMethod {
         @Test
@@ -136,6 +189,34 @@ public class JwtUtilTest {
             when(request.getHeader("Authorization")).thenReturn(null);
             assertNull(jwtUtil.resolveToken(request));
         }
+
+        @Test
+        public void shouldReturnToken_WhenSchemeCaseAndWhitespaceDiffer() {
+            assertEquals("validToken", jwtUtil.resolveToken("  bearer   validToken  "));
+        }
+
+        @Test
+        public void shouldReturnNull_WhenSchemeHasNoToken() {
+            assertNull(jwtUtil.resolveToken("Bearer   "));
+            assertNull(jwtUtil.resolveToken("BearervalidToken"));
+        }
+    }
+
+    @Nested
+    class ResolveRefreshTokenMethod {
+        @Test
+        public void shouldReturnRefreshCookie_WhenCookieHeaderHasSeveralCookies() {
+            when(request.getHeaders("Cookie"))
+                    .thenReturn(Collections.enumeration(List.of("theme=dark; refresh=refreshToken ; lang=ko")));
+            assertEquals("refreshToken", jwtUtil.resolveRefreshToken(request));
+        }
+
+        @Test
+        public void shouldReturnNull_WhenRefreshCookieIsAbsent() {
+            when(request.getHeaders("Cookie"))
+                    .thenReturn(Collections.enumeration(List.of("refreshed=1; other=refresh")));
+            assertNull(jwtUtil.resolveRefreshToken(request));
+        }
     }
 
 }
@@ -2,11 +2,16 @@ package com.suyeon.suyeon;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.suyeon.suyeon.config.JwtUtil;
+import com.suyeon.suyeon.config.RateLimiter;
 import com.suyeon.suyeon.controller.MemberController;
 import com.suyeon.suyeon.dto.*;
 import com.suyeon.suyeon.entity.Member;
 import com.suyeon.suyeon.exception.GlobalExceptionHandler;
+import com.suyeon.suyeon.exception.InvalidRefreshTokenException;
+import com.suyeon.suyeon.exception.RateLimitExceededException;
 import com.suyeon.suyeon.service.MemberService;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +22,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,17 +32,28 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,6 +65,8 @@ public class MemberControllerTest {
     private MemberService memberService;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private RateLimiter rateLimiter;
 
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -61,6 +81,10 @@ public class MemberControllerTest {
         mockMvc =
                 MockMvcBuilders.standaloneSetup(memberController)
                         .setControllerAdvice(new GlobalExceptionHandler())
+                        // Spring Boot와 같이 문자열 응답을 UTF-8로 씁니다. (기본값 ISO-8859-1이면 한글 메시지가 깨집니다)
+                        .setMessageConverters(
+                                new StringHttpMessageConverter(StandardCharsets.UTF_8),
+                                new MappingJackson2HttpMessageConverter())
                         .build();
     }
 
@@ -114,6 +138,25 @@ public class MemberControllerTest {
                                     .content(reqBody))
                     .andExpect(status().isConflict());
         }
+
+        @Test
+        public void shouldReturn400_WhenOtherIntegrityConstraintIsViolated() throws Exception {
+
+            SignupRequestDto requestDto =
+                    new SignupRequestDto("testMember", "Password1!", "nickname");
+            String reqBody = new ObjectMapper().writeValueAsString(requestDto);
+
+            when(memberService.signup(any(SignupRequestDto.class)))
+                    .thenThrow(new DataIntegrityViolationException("Data truncation: Data too long for column 'nickname'"));
+
+            mockMvc
+                    .perform(
+                            post("/api/members/signup")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(reqBody))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string("저장할 수 없는 값이 포함되어 있습니다!"));
+        }
     }
 
     @Nested
@@ -172,6 +215,113 @@ public class MemberControllerTest {
                     .andExpect(status().isNotFound());
 
         }
+
+        @Test
+        public void shouldReturn429_WhenRateLimitIsExceeded() throws Exception
+        {
+            SignRequestDto requestDto = new SignRequestDto("testMember", "password");
+            String reqBody = new ObjectMapper().writeValueAsString(requestDto);
+
+            doThrow(new RateLimitExceededException(12))
+                    .when(rateLimiter).check(eq(RateLimiter.SIGN), anyString(), eq("testMember"));
+
+            mockMvc
+                    .perform(
+                            post("/api/members/sign").contentType(MediaType.APPLICATION_JSON).content(reqBody))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "12"));
+
+            verify(memberService, never()).sign(any(SignRequestDto.class), any(HttpServletResponse.class));
+        }
+
+        @Test
+        public void shouldReturn429_WhenPasswordHashingQueueIsFull() throws Exception
+        {
+            SignRequestDto requestDto = new SignRequestDto("testMember", "password");
+            String reqBody = new ObjectMapper().writeValueAsString(requestDto);
+
+            given(memberService.sign(any(SignRequestDto.class), any(HttpServletResponse.class)))
+                    .willThrow(new RejectedExecutionException("비밀번호 처리 대기 시간이 초과되었습니다."));
+
+            mockMvc
+                    .perform(
+                            post("/api/members/sign").contentType(MediaType.APPLICATION_JSON).content(reqBody))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(content().string("요청이 많습니다! 잠시 후 다시 시도해주세요!"));
+        }
+
+        @Test
+        public void shouldReturn503_WhenConnectionPoolIsExhausted() throws Exception
+        {
+            SignRequestDto requestDto = new SignRequestDto("testMember", "password");
+            String reqBody = new ObjectMapper().writeValueAsString(requestDto);
+
+            given(memberService.sign(any(SignRequestDto.class), any(HttpServletResponse.class)))
+                    .willThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"));
+
+            mockMvc
+                    .perform(
+                            post("/api/members/sign").contentType(MediaType.APPLICATION_JSON).content(reqBody))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(content().string("요청이 많습니다! 잠시 후 다시 시도해주세요!"));
+        }
+    }
+
+    @Nested
+    class refreshMethod {
+
+        @Test
+        public void shouldReturn200_WhenRefreshTokenIsRotated() throws Exception
+        {
+            SignResponseDto responseDto = new SignResponseDto("newAccessToken");
+
+            given(memberService.refresh(any(HttpServletRequest.class), any(HttpServletResponse.class)))
+                    .willReturn(responseDto);
+
+            mockMvc
+                    .perform(post("/api/members/refresh").cookie(new Cookie("refresh", "refreshToken")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token").value("newAccessToken"));
+        }
+
+        @Test
+        public void shouldReturn401_WhenRefreshTokenIsAlreadyUsed() throws Exception
+        {
+            given(memberService.refresh(any(HttpServletRequest.class), any(HttpServletResponse.class)))
+                    .willThrow(new InvalidRefreshTokenException("이미 사용되었거나 만료된 Refresh Token입니다! 재로그인하세요!"));
+
+            mockMvc
+                    .perform(post("/api/members/refresh").cookie(new Cookie("refresh", "refreshToken")))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(content().string("이미 사용되었거나 만료된 Refresh Token입니다! 재로그인하세요!"));
+        }
+
+        @Test
+        public void shouldReturn401WithReason_WhenRefreshTokenIsMissing() throws Exception
+        {
+            given(memberService.refresh(any(HttpServletRequest.class), any(HttpServletResponse.class)))
+                    .willThrow(new InvalidRefreshTokenException("Refresh Token이 없습니다! 재로그인하세요!"));
+
+            mockMvc
+                    .perform(post("/api/members/refresh"))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(content().string("Refresh Token이 없습니다! 재로그인하세요!"));
+        }
+    }
+
+    @Nested
+    class logoutMethod {
+
+        @Test
+        public void shouldReturn204_WhenLogoutIsRequested() throws Exception
+        {
+            mockMvc
+                    .perform(post("/api/members/logout")
+                            .principal(new UsernamePasswordAuthenticationToken("testMember", null)))
+                    .andExpect(status().isNoContent());
+
+            verify(memberService).logout(any(Authentication.class), any(HttpServletRequest.class), any(HttpServletResponse.class));
+        }
     }
 
     @Nested
@@ -0,0 +1,179 @@
+package com.suyeon.suyeon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suyeon.suyeon.dto.MemberImportProgressDto;
+import com.suyeon.suyeon.repository.MemberBulkRepository;
+import com.suyeon.suyeon.service.MemberImportService;
+import com.suyeon.suyeon.service.PasswordPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberImportServiceTest {
+
+    @Mock
+    private MemberBulkRepository memberBulkRepository;
+
+    private MemberImportService memberImportService;
+    private final List<MemberImportProgressDto> progress = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        memberImportService = new MemberImportService(
+                memberBulkRepository, new BCryptPasswordEncoder(4), new PasswordPolicy(), new ObjectMapper(), 2, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        memberImportService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void importMembers_ShouldReportRowErrorsPerChunk_WhenCsvContainsInvalidRows() throws Exception
+    {
+        given(memberBulkRepository.findExistingUsernames(anyCollection())).willReturn(Set.of());
+        given(memberBulkRepository.findExistingUsernames(Set.of("taken", "member2"))).willReturn(Set.of("taken"));
+        String csv = """
+                username,password,nickname
+                member1,Password1!,first
+                member1,Password1!,duplicate
+                taken,Password1!,taken
+                member2,Password1!,second
+                member3,weak,third
+                """;
+
+        MemberImportProgressDto summary = memberImportService.importMembers(
+                new BufferedReader(new StringReader(csv)), MemberImportService.Format.CSV, progress::add);
+
+        assertEquals(4, progress.size());
+        assertEquals(1, progress.get(0).getErrors().size());
+        assertEquals(3, progress.get(0).getErrors().get(0).getLine());
+        assertEquals("이미 사용 중인 ID 입니다!", progress.get(1).getErrors().get(0).getReason());
+        assertTrue(summary.isDone());
+        assertEquals(5, summary.getProcessed());
+        assertEquals(2, summary.getImported());
+        assertEquals(3, summary.getFailed());
+
+        ArgumentCaptor<List<MemberBulkRepository.NewMember>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memberBulkRepository, times(2)).insertAll(captor.capture());
+        MemberBulkRepository.NewMember first = captor.getAllValues().get(0).get(0);
+        assertEquals("member1", first.username());
+        assertTrue(new BCryptPasswordEncoder().matches("Password1!", first.password()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void importMembers_ShouldReadQuotedFields_WhenCsvValueContainsCommaOrQuote() throws Exception
+    {
+        given(memberBulkRepository.findExistingUsernames(anyCollection())).willReturn(Set.of());
+        String csv = """
+                member1,"Password1!","Kim, ""Sooya""\"
+                member2,"Pass,word1!",second
+                member3,"Password1!,broken
+                """;
+
+        MemberImportProgressDto summary = memberImportService.importMembers(
+                new BufferedReader(new StringReader(csv)), MemberImportService.Format.CSV, progress::add);
+
+        assertEquals(1, summary.getImported());
+        // 쉼표가 든 비밀번호도 필드 개수 오류가 아니라 비밀번호 정책 위반으로 보고됩니다.
+        assertEquals(PasswordPolicy.Violation.INVALID_CHARACTER.getMessage(), progress.get(0).getErrors().get(0).getReason());
+        assertEquals("따옴표가 닫히지 않았습니다.", progress.get(1).getErrors().get(0).getReason());
+
+        ArgumentCaptor<List<MemberBulkRepository.NewMember>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memberBulkRepository).insertAll(captor.capture());
+        MemberBulkRepository.NewMember member = captor.getValue().get(0);
+        assertEquals("Kim, \"Sooya\"", member.nickname());
+        assertTrue(new BCryptPasswordEncoder().matches("Password1!", member.password()));
+    }
+
+    @Test
+    public void importMembers_ShouldRetryRowByRow_WhenBatchInsertViolatesConstraint() throws Exception
+    {
+        given(memberBulkRepository.findExistingUsernames(anyCollection())).willReturn(Set.of());
+        willDoNothing().given(memberBulkRepository).insertAll(any());
+        willThrow(new DuplicateKeyException("Duplicate entry 'member2' for key 'member.uk_member_username'"))
+                .given(memberBulkRepository).insertAll(argThat(members -> members.stream().anyMatch(m -> m.username().equals("member2"))));
+        String ndjson = """
+                {"username":"member1","password":"Password1!","nickname":"first"}
+                {"username":"member2","password":"Password1!","nickname":"second"}
+                not-json
+                {"username":"member3","password":"Password1!","nickname":"third"}
+                """;
+
+        MemberImportProgressDto summary = memberImportService.importMembers(
+                new BufferedReader(new StringReader(ndjson)), MemberImportService.Format.NDJSON, progress::add);
+
+        assertEquals(1, progress.get(0).getErrors().size());
+        assertEquals("member2", progress.get(0).getErrors().get(0).getUsername());
+        assertEquals("이미 사용 중인 ID 입니다!", progress.get(0).getErrors().get(0).getReason());
+        assertEquals("JSON 형식이 올바르지 않습니다.", progress.get(1).getErrors().get(0).getReason());
+        assertEquals(4, summary.getProcessed());
+        assertEquals(2, summary.getImported());
+        assertEquals(2, summary.getFailed());
+    }
+
+    @Test
+    public void importMembers_ShouldFailWholeChunk_WhenDatabaseIsUnavailable() throws Exception
+    {
+        given(memberBulkRepository.findExistingUsernames(anyCollection())).willReturn(Set.of());
+        willThrow(new CannotGetJdbcConnectionException("connection refused"))
+                .willDoNothing()
+                .given(memberBulkRepository).insertAll(any());
+        String ndjson = """
+                {"username":"member1","password":"Password1!","nickname":"first"}
+                {"username":"member2","password":"Password1!","nickname":"second"}
+                {"username":"member3","password":"Password1!","nickname":"third"}
+                """;
+
+        MemberImportProgressDto summary = memberImportService.importMembers(
+                new BufferedReader(new StringReader(ndjson)), MemberImportService.Format.NDJSON, progress::add);
+
+        assertEquals(2, progress.get(0).getErrors().size());
+        assertEquals("저장에 실패했습니다. 다시 시도해주세요.", progress.get(0).getErrors().get(0).getReason());
+        assertEquals(1, summary.getImported());
+        assertEquals(2, summary.getFailed());
+    }
+
+    @Test
+    public void importMembers_ShouldRejectRow_WhenValueExceedsColumnLength() throws Exception
+    {
+        given(memberBulkRepository.findExistingUsernames(anyCollection())).willReturn(Set.of());
+        String csv = "a".repeat(256) + ",Password1!,nickname\n"
+                + "member1,Password1!," + "n".repeat(256) + "\n";
+
+        MemberImportProgressDto summary = memberImportService.importMembers(
+                new BufferedReader(new StringReader(csv)), MemberImportService.Format.CSV, progress::add);
+
+        assertEquals("아이디는 255자 이하여야 합니다.", progress.get(0).getErrors().get(0).getReason());
+        assertEquals("닉네임은 255자 이하여야 합니다.", progress.get(0).getErrors().get(1).getReason());
+        assertEquals(0, summary.getImported());
+        verify(memberBulkRepository, never()).insertAll(any());
+    }
+}
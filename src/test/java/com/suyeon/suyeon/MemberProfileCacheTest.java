@@ -0,0 +1,131 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.CacheConfig;
+import com.suyeon.suyeon.config.JwtUtil;
+import com.suyeon.suyeon.config.PasswordHashingExecutor;
+import com.suyeon.suyeon.config.TokenDenylist;
+import com.suyeon.suyeon.dto.ProfileResponseDto;
+import com.suyeon.suyeon.dto.SignupRequestDto;
+import com.suyeon.suyeon.repository.MemberProfile;
+import com.suyeon.suyeon.repository.MemberRepository;
+import com.suyeon.suyeon.service.MemberService;
+import com.suyeon.suyeon.service.PasswordPolicy;
+import com.suyeon.suyeon.service.RefreshTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig(MemberProfileCacheTest.TestConfig.class)
+public class MemberProfileCacheTest {
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp()
+    {
+        cacheManager.getCache(CacheConfig.PROFILE_CACHE).clear();
+        reset(memberRepository, passwordHashingExecutor);
+        given(memberRepository.findProfileByUsername("testMember")).willReturn(Optional.of(profile("testMember", "nickname")));
+    }
+
+    @Test
+    public void profile_ShouldReturnCachedProfile_WhenCalledAgain()
+    {
+        ProfileResponseDto first = memberService.profile("testMember");
+        ProfileResponseDto second = memberService.profile("testMember");
+
+        assertSame(first, second);
+        assertEquals("nickname", second.getNickname());
+        verify(memberRepository, times(1)).findProfileByUsername("testMember");
+    }
+
+    @Test
+    public void signup_ShouldEvictCachedProfile_WhenMemberIsSaved()
+    {
+        given(passwordHashingExecutor.encode(anyString())).willReturn("{bcrypt}hash");
+        memberService.profile("testMember");
+
+        memberService.signup(new SignupRequestDto("testMember", "Password1!", "nickname"));
+
+        assertNull(cacheManager.getCache(CacheConfig.PROFILE_CACHE).get("testMember"));
+        memberService.profile("testMember");
+        verify(memberRepository, times(2)).findProfileByUsername("testMember");
+    }
+
+    private static MemberProfile profile(String username, String nickname) {
+        return new MemberProfile() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+    }
+
+    @Configuration
+    @Import({CacheConfig.class, MemberService.class})
+    static class TestConfig {
+
+        @Bean
+        public CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.PROFILE_CACHE);
+        }
+
+        @Bean
+        public MemberRepository memberRepository() {
+            return mock(MemberRepository.class);
+        }
+
+        @Bean
+        public PasswordHashingExecutor passwordHashingExecutor() {
+            return mock(PasswordHashingExecutor.class);
+        }
+
+        @Bean
+        public PasswordPolicy passwordPolicy() {
+            return new PasswordPolicy();
+        }
+
+        @Bean
+        public JwtUtil jwtUtil() {
+            return new JwtUtil("cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c");
+        }
+
+        @Bean
+        public RefreshTokenStore refreshTokenStore() {
+            return mock(RefreshTokenStore.class);
+        }
+
+        @Bean
+        public TokenDenylist tokenDenylist() {
+            return new TokenDenylist(1000, 0.01);
+        }
+    }
+}
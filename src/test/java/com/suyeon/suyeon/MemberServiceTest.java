@@ -0,0 +1,219 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.JwtUtil;
+import com.suyeon.suyeon.config.PasswordEncoderConfig;
+import com.suyeon.suyeon.config.PasswordEncoderProperties;
+import com.suyeon.suyeon.config.PasswordHashingExecutor;
+import com.suyeon.suyeon.config.TokenDenylist;
+import com.suyeon.suyeon.dto.SignRequestDto;
+import com.suyeon.suyeon.dto.SignResponseDto;
+import com.suyeon.suyeon.jwt.JwtClaims;
+import com.suyeon.suyeon.repository.MemberCredentials;
+import com.suyeon.suyeon.repository.MemberRepository;
+import com.suyeon.suyeon.service.MemberService;
+import com.suyeon.suyeon.service.PasswordPolicy;
+import com.suyeon.suyeon.service.RefreshTokenStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberServiceTest {
+
+    private static final String SECRET = "cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c";
+    private static final String PASSWORD = "Password1!";
+    private static final int CURRENT_BCRYPT_STRENGTH = 5;
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    private JwtUtil jwtUtil;
+    private TokenDenylist tokenDenylist;
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private MemberService memberService;
+
+    @BeforeEach
+    public void setUp()
+    {
+        jwtUtil = new JwtUtil(SECRET);
+        tokenDenylist = new TokenDenylist(1000, 0.01);
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        properties.getBcrypt().setStrength(CURRENT_BCRYPT_STRENGTH);
+        passwordHashingExecutor = new PasswordHashingExecutor(
+                new PasswordEncoderConfig(properties).passwordEncoder(), new SimpleMeterRegistry(), 1, 4, 5000);
+        memberService = new MemberService(
+                memberRepository, passwordHashingExecutor, new PasswordPolicy(), jwtUtil, refreshTokenStore, tokenDenylist);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    public void sign_ShouldReencodeAndSavePassword_WhenStoredHashUsesLegacyStrength()
+    {
+        String legacyHash = "{bcrypt}" + new BCryptPasswordEncoder(CURRENT_BCRYPT_STRENGTH - 1).encode(PASSWORD);
+        given(memberRepository.findCredentialsByUsername("testMember")).willReturn(Optional.of(credentials(legacyHash)));
+
+        SignResponseDto responseDto = memberService.sign(new SignRequestDto("testMember", PASSWORD), new MockHttpServletResponse());
+
+        assertNotNull(responseDto.getToken());
+        ArgumentCaptor<String> encodedPassword = ArgumentCaptor.forClass(String.class);
+        verify(memberRepository).updatePassword(eq("testMember"), encodedPassword.capture(), any(LocalDateTime.class));
+        assertNotEquals(legacyHash, encodedPassword.getValue());
+        assertTrue(passwordHashingExecutor.matches(PASSWORD, encodedPassword.getValue()));
+        assertFalse(passwordHashingExecutor.upgradeEncoding(encodedPassword.getValue()));
+    }
+
+    @Test
+    public void sign_ShouldNotUpdatePassword_WhenStoredHashUsesCurrentStrength()
+    {
+        String currentHash = passwordHashingExecutor.encode(PASSWORD);
+        given(memberRepository.findCredentialsByUsername("testMember")).willReturn(Optional.of(credentials(currentHash)));
+
+        SignResponseDto responseDto = memberService.sign(new SignRequestDto("testMember", PASSWORD), new MockHttpServletResponse());
+
+        assertNotNull(responseDto.getToken());
+        verify(memberRepository, never()).updatePassword(anyString(), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void logout_ShouldRevokeAccessTokenAndDeleteRefreshToken_WhenRefreshTokenBelongsToMember()
+    {
+        JwtClaims accessClaims = accessClaims("testMember");
+        JwtClaims refreshClaims = refreshClaims("testMember");
+        MockHttpServletRequest request = requestWithRefreshCookie(jwtUtil.createJwt(refreshClaims));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        memberService.logout(authentication(accessClaims), request, response);
+
+        assertTrue(tokenDenylist.isRevoked(accessClaims.id()));
+        verify(refreshTokenStore).delete(refreshClaims.id());
+        assertExpiredRefreshCookie(response);
+    }
+
+    @Test
+    public void logout_ShouldKeepRefreshToken_WhenRefreshTokenBelongsToAnotherMember()
+    {
+        JwtClaims accessClaims = accessClaims("testMember");
+        MockHttpServletRequest request = requestWithRefreshCookie(jwtUtil.createJwt(refreshClaims("otherMember")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        memberService.logout(authentication(accessClaims), request, response);
+
+        assertTrue(tokenDenylist.isRevoked(accessClaims.id()));
+        verify(refreshTokenStore, never()).delete(anyString());
+        assertExpiredRefreshCookie(response);
+    }
+
+    @Test
+    public void logout_ShouldRevokeAccessTokenAndExpireCookie_WhenRefreshTokenIsMissing()
+    {
+        JwtClaims accessClaims = accessClaims("testMember");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        memberService.logout(authentication(accessClaims), new MockHttpServletRequest(), response);
+
+        assertTrue(tokenDenylist.isRevoked(accessClaims.id()));
+        verify(refreshTokenStore, never()).delete(anyString());
+        assertExpiredRefreshCookie(response);
+    }
+
+    @Test
+    public void logout_ShouldIgnoreRefreshToken_WhenRefreshTokenIsInvalid()
+    {
+        JwtClaims accessClaims = accessClaims("testMember");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        memberService.logout(authentication(accessClaims), requestWithRefreshCookie("invalid.refresh.token"), response);
+
+        assertTrue(tokenDenylist.isRevoked(accessClaims.id()));
+        verify(refreshTokenStore, never()).delete(anyString());
+        assertExpiredRefreshCookie(response);
+    }
+
+    @Test
+    public void logout_ShouldThrowBadCredentialsException_WhenAccessClaimsAreMissing()
+    {
+        Authentication auth = new UsernamePasswordAuthenticationToken("testMember", null, List.of());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThrows(BadCredentialsException.class,
+                () -> memberService.logout(auth, new MockHttpServletRequest(), response));
+
+        assertEquals(0, tokenDenylist.size());
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+    }
+
+    private static MemberCredentials credentials(String encodedPassword) {
+        return new MemberCredentials() {
+            @Override
+            public String getUsername() {
+                return "testMember";
+            }
+
+            @Override
+            public String getPassword() {
+                return encodedPassword;
+            }
+
+            @Override
+            public String getRole() {
+                return "ROLE_USER";
+            }
+        };
+    }
+
+    private JwtClaims accessClaims(String username) {
+        return jwtUtil.newClaims(username, "access", "suyeon", JwtUtil.ACCESS_TOKEN_VALIDITY_DURATION);
+    }
+
+    private JwtClaims refreshClaims(String username) {
+        return jwtUtil.newClaims(username, "refresh", "suyeon", JwtUtil.REFRESH_TOKEN_VALIDITY_DURATION);
+    }
+
+    private Authentication authentication(JwtClaims accessClaims) {
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(accessClaims.username(), null, List.of());
+        auth.setDetails(accessClaims);
+        return auth;
+    }
+
+    private MockHttpServletRequest requestWithRefreshCookie(String refreshToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cookie", JwtUtil.REFRESH_COOKIE + "=" + refreshToken);
+        return request;
+    }
+
+    private void assertExpiredRefreshCookie(MockHttpServletResponse response) {
+        assertEquals(JwtUtil.expiredRefreshTokenCookie().toString(), response.getHeader(HttpHeaders.SET_COOKIE));
+    }
+}
@@ -0,0 +1,100 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.PasswordEncoderConfig;
+import com.suyeon.suyeon.config.PasswordEncoderProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordEncoderConfigTest {
+
+    private static final String PASSWORD = "Password1!";
+
+    @Test
+    public void passwordEncoder_ShouldEncodeWithConfiguredAlgorithm()
+    {
+        PasswordEncoderProperties properties = properties("argon2");
+        properties.getArgon2().setMemoryKb(1024);
+        properties.getArgon2().setIterations(1);
+
+        PasswordEncoder passwordEncoder = new PasswordEncoderConfig(properties).passwordEncoder();
+        String encoded = passwordEncoder.encode(PASSWORD);
+
+        assertTrue(encoded.startsWith("{argon2}"));
+        assertTrue(passwordEncoder.matches(PASSWORD, encoded));
+    }
+
+    @Test
+    public void passwordEncoder_ShouldMatchLegacyBCryptHash_WhenHashHasNoPrefix()
+    {
+        PasswordEncoderProperties properties = properties("pbkdf2");
+        properties.getPbkdf2().setIterations(1000);
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        PasswordEncoder passwordEncoder = new PasswordEncoderConfig(properties).passwordEncoder();
+
+        assertTrue(passwordEncoder.encode(PASSWORD).startsWith("{pbkdf2}"));
+        assertTrue(passwordEncoder.matches(PASSWORD, legacyHash));
+    }
+
+    @Test
+    public void passwordEncoder_ShouldThrowIllegalArgumentException_WhenAlgorithmIsUnknown()
+    {
+        PasswordEncoderConfig config = new PasswordEncoderConfig(properties("md5"));
+
+        assertThrows(IllegalArgumentException.class, config::passwordEncoder);
+    }
+
+    @Test
+    public void passwordEncoder_ShouldUseConfiguredStrength_WhenCalibrationIsDisabled()
+    {
+        PasswordEncoderProperties properties = properties("bcrypt");
+        properties.getBcrypt().setStrength(5);
+
+        String encoded = new PasswordEncoderConfig(properties).passwordEncoder().encode(PASSWORD);
+
+        assertEquals(5, bcryptStrength(encoded));
+    }
+
+    @Test
+    public void passwordEncoder_ShouldKeepConfiguredStrength_WhenNoHigherStrengthMeetsTarget()
+    {
+        PasswordEncoderProperties properties = properties("bcrypt");
+        properties.getBcrypt().setStrength(6);
+        properties.getBcrypt().setCalibrate(true);
+        properties.getBcrypt().setTargetMillis(0);
+
+        String encoded = new PasswordEncoderConfig(properties).passwordEncoder().encode(PASSWORD);
+
+        assertEquals(6, bcryptStrength(encoded));
+    }
+
+    @Test
+    public void passwordEncoder_ShouldRaiseStrength_WhenHigherStrengthMeetsTarget()
+    {
+        PasswordEncoderProperties properties = properties("bcrypt");
+        properties.getBcrypt().setStrength(4);
+        properties.getBcrypt().setCalibrate(true);
+        properties.getBcrypt().setTargetMillis(50);
+
+        String encoded = new PasswordEncoderConfig(properties).passwordEncoder().encode(PASSWORD);
+
+        int strength = bcryptStrength(encoded);
+        assertTrue(strength > 4 && strength <= 16, "strength " + strength);
+    }
+
+    private static PasswordEncoderProperties properties(String algorithm) {
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        properties.setAlgorithm(algorithm);
+        properties.getBcrypt().setStrength(4);
+        return properties;
+    }
+
+    // {bcrypt}$2a$05$... 형식에서 비용(strength)만 꺼냅니다.
+    private static int bcryptStrength(String encoded) {
+        String hash = encoded.substring("{bcrypt}".length());
+        return Integer.parseInt(hash.substring(4, 6));
+    }
+}
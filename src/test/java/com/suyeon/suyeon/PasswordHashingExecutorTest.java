@@ -0,0 +1,79 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingExecutorTest {
+
+    private final BlockingPasswordEncoder passwordEncoder = new BlockingPasswordEncoder();
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    public void tearDown()
+    {
+        passwordEncoder.release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    public void encodeAsync_ShouldThrowRejectedExecutionException_WhenQueueIsFull() throws Exception
+    {
+        executor = new PasswordHashingExecutor(passwordEncoder, new SimpleMeterRegistry(), 1, 1, 5000);
+
+        CompletableFuture<String> running = executor.encodeAsync("first");
+        assertTrue(passwordEncoder.started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = executor.encodeAsync("second");
+
+        assertThrows(RejectedExecutionException.class, () -> executor.encodeAsync("third"));
+
+        passwordEncoder.release.countDown();
+        assertEquals("encoded:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encoded:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void encode_ShouldThrowRejectedExecutionException_WhenHashingTimesOut() throws Exception
+    {
+        executor = new PasswordHashingExecutor(passwordEncoder, new SimpleMeterRegistry(), 1, 1, 50);
+
+        executor.encodeAsync("first");
+        assertTrue(passwordEncoder.started.await(5, TimeUnit.SECONDS));
+
+        RejectedExecutionException e = assertThrows(RejectedExecutionException.class, () -> executor.encode("second"));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+    }
+
+    // 첫 encode 호출이 release될 때까지 해싱 스레드를 붙잡아 두어 풀과 대기열을 원하는 만큼 채웁니다.
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("encoded:" + rawPassword);
+        }
+    }
+}
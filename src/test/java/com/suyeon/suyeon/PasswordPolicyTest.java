@@ -0,0 +1,49 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.service.PasswordPolicy;
+import com.suyeon.suyeon.service.PasswordPolicy.Violation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordPolicyTest {
+
+    private final PasswordPolicy passwordPolicy = new PasswordPolicy();
+
+    @Test
+    public void validate_ShouldPass_WhenAllCharacterClassesArePresent()
+    {
+        PasswordPolicy.Result result = passwordPolicy.validate("Password1!");
+
+        assertTrue(result.isValid());
+        assertTrue(result.getViolations().isEmpty());
+    }
+
+    @Test
+    public void validate_ShouldReturnEveryViolation_WhenPasswordIsWeak()
+    {
+        PasswordPolicy.Result result = passwordPolicy.validate("abc");
+
+        assertFalse(result.isValid());
+        assertEquals(
+                Set.of(Violation.TOO_SHORT, Violation.MISSING_UPPERCASE, Violation.MISSING_DIGIT, Violation.MISSING_SPECIAL),
+                result.getViolations());
+    }
+
+    @Test
+    public void validate_ShouldRejectCharactersOutsideAllowedSet()
+    {
+        PasswordPolicy.Result result = passwordPolicy.validate("Password1! ");
+
+        assertTrue(result.has(Violation.INVALID_CHARACTER));
+        assertFalse(result.isValid());
+    }
+
+    @Test
+    public void validate_ShouldReturnSameInstance_WhenViolationsAreEqual()
+    {
+        assertSame(passwordPolicy.validate("Password1!"), passwordPolicy.validate("Another2@"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.RateLimitProperties;
+import com.suyeon.suyeon.config.RateLimiter;
+import com.suyeon.suyeon.exception.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000_000_000L);
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setUp()
+    {
+        RateLimitProperties.Endpoint sign = new RateLimitProperties.Endpoint();
+        sign.setPerIp(budget(20));
+        sign.setPerUsername(budget(5));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getEndpoints().put(RateLimiter.SIGN, sign);
+        rateLimiter = new RateLimiter(properties, nanoTime::get);
+    }
+
+    @Test
+    public void check_ShouldReject_WhenUsernameBudgetIsExhausted()
+    {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.check(RateLimiter.SIGN, "10.0.0." + i, "testMember");
+        }
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.check(RateLimiter.SIGN, "10.0.0.9", "testMember"));
+        assertEquals(12, e.getRetryAfterSeconds());
+
+        rateLimiter.check(RateLimiter.SIGN, "10.0.0.9", "otherMember");
+    }
+
+    @Test
+    public void check_ShouldAllowAgain_WhenEmissionIntervalHasPassed()
+    {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "testMember");
+        }
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "testMember"));
+
+        // 1분에 5회이므로 12초마다 한 번씩 다시 허용됩니다.
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "testMember");
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "testMember"));
+    }
+
+    @Test
+    public void check_ShouldReject_WhenIpBudgetIsExhausted()
+    {
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "member" + i);
+        }
+
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "newMember"));
+    }
+
+    @Test
+    public void check_ShouldNotSpendIpBudget_WhenUsernameBudgetRejects()
+    {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "testMember");
+        }
+        for (int i = 0; i < 30; i++) {
+            assertThrows(RateLimitExceededException.class,
+                    () -> rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "testMember"));
+        }
+
+        // username 한도로 거절된 30번은 IP 한도(20)에서 빠지지 않아 남은 15번은 다른 계정으로 허용됩니다.
+        for (int i = 0; i < 15; i++) {
+            rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "member" + i);
+        }
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", "newMember"));
+    }
+
+    @Test
+    public void check_ShouldNotKeepUsernameBucket_WhenUsernameExceedsColumnLength()
+    {
+        String hugeUsername = "a".repeat(1_000_000);
+
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", hugeUsername);
+        }
+
+        // IP 버킷 하나만 남고, 100만 자 username은 키로 보관되지 않습니다.
+        assertEquals(1, rateLimiter.bucketCount());
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.check(RateLimiter.SIGN, "10.0.0.1", hugeUsername));
+    }
+
+    @Test
+    public void check_ShouldAllowEverything_WhenEndpointIsNotConfigured()
+    {
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.check(RateLimiter.SIGNUP, "10.0.0.1", null);
+        }
+
+        assertEquals(0, rateLimiter.bucketCount());
+    }
+
+    private static RateLimitProperties.Budget budget(int capacity) {
+        RateLimitProperties.Budget budget = new RateLimitProperties.Budget();
+        budget.setCapacity(capacity);
+        budget.setPeriod(Duration.ofMinutes(1));
+        return budget;
+    }
+}
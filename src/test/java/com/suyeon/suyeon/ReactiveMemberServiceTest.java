@@ -0,0 +1,134 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.JwtUtil;
+import com.suyeon.suyeon.config.PasswordHashingExecutor;
+import com.suyeon.suyeon.dto.SignRequestDto;
+import com.suyeon.suyeon.dto.SignupRequestDto;
+import com.suyeon.suyeon.repository.MemberCredentials;
+import com.suyeon.suyeon.repository.ReactiveMemberRepository;
+import com.suyeon.suyeon.service.PasswordPolicy;
+import com.suyeon.suyeon.service.ReactiveMemberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveMemberServiceTest {
+
+    @Mock
+    private ReactiveMemberRepository memberRepository;
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    private ReactiveMemberService memberService;
+
+    @BeforeEach
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil("cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c");
+        memberService = new ReactiveMemberService(
+                memberRepository, passwordHashingExecutor, new PasswordPolicy(), jwtUtil, 1000L);
+    }
+
+    @Test
+    public void sign_ShouldIssueTokenAndCookie_WhenPasswordMatches()
+    {
+        given(memberRepository.findCredentialsByUsername("testMember")).willReturn(Mono.just(credentials()));
+        given(passwordHashingExecutor.matchesAsync("Password1!", "{bcrypt}hash"))
+                .willReturn(CompletableFuture.completedFuture(true));
+        given(memberRepository.saveRefreshToken(eq("testMember"), anyString(), anyLong())).willReturn(Mono.empty());
+        MockServerHttpResponse response = new MockServerHttpResponse();
+
+        StepVerifier.create(memberService.sign(new SignRequestDto("testMember", "Password1!"), response))
+                .assertNext(responseDto -> assertNotNull(responseDto.getToken()))
+                .verifyComplete();
+
+        assertNotNull(response.getCookies().getFirst(JwtUtil.REFRESH_COOKIE));
+    }
+
+    @Test
+    public void sign_ShouldFailWithoutSavingToken_WhenPasswordIsWrong()
+    {
+        given(memberRepository.findCredentialsByUsername("testMember")).willReturn(Mono.just(credentials()));
+        given(passwordHashingExecutor.matchesAsync("wrong", "{bcrypt}hash"))
+                .willReturn(CompletableFuture.completedFuture(false));
+
+        StepVerifier.create(memberService.sign(new SignRequestDto("testMember", "wrong"), new MockServerHttpResponse()))
+                .expectError(BadCredentialsException.class)
+                .verify();
+
+        verify(memberRepository, never()).saveRefreshToken(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    public void sign_ShouldFail_WhenMemberDoesNotExist()
+    {
+        given(memberRepository.findCredentialsByUsername("nobody")).willReturn(Mono.empty());
+
+        StepVerifier.create(memberService.sign(new SignRequestDto("nobody", "Password1!"), new MockServerHttpResponse()))
+                .expectError(UsernameNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    public void signup_ShouldFailWithDuplicateKey_WhenUsernameExists()
+    {
+        given(passwordHashingExecutor.encodeAsync(any())).willReturn(CompletableFuture.completedFuture("{bcrypt}hash"));
+        given(memberRepository.insert("testMember", "{bcrypt}hash", "nickname", "ROLE_USER"))
+                .willReturn(Mono.error(new DataIntegrityViolationException("uk_member_username")));
+
+        StepVerifier.create(memberService.signup(new SignupRequestDto("testMember", "Password1!", "nickname")))
+                .expectError(DuplicateKeyException.class)
+                .verify();
+    }
+
+    @Test
+    public void signup_ShouldKeepIntegrityError_WhenOtherConstraintIsViolated()
+    {
+        given(passwordHashingExecutor.encodeAsync(any())).willReturn(CompletableFuture.completedFuture("{bcrypt}hash"));
+        given(memberRepository.insert("testMember", "{bcrypt}hash", "nickname", "ROLE_USER"))
+                .willReturn(Mono.error(new DataIntegrityViolationException("Data too long for column 'nickname'")));
+
+        StepVerifier.create(memberService.signup(new SignupRequestDto("testMember", "Password1!", "nickname")))
+                .expectErrorMatches(e -> e instanceof DataIntegrityViolationException && !(e instanceof DuplicateKeyException))
+                .verify();
+    }
+
+    private static MemberCredentials credentials() {
+        return new MemberCredentials() {
+            @Override
+            public String getUsername() {
+                return "testMember";
+            }
+
+            @Override
+            public String getPassword() {
+                return "{bcrypt}hash";
+            }
+
+            @Override
+            public String getRole() {
+                return "ROLE_USER";
+            }
+        };
+    }
+}
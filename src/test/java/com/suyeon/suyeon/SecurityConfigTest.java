@@ -0,0 +1,124 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.AuthMetrics;
+import com.suyeon.suyeon.config.JwtClaimsCache;
+import com.suyeon.suyeon.config.JwtUtil;
+import com.suyeon.suyeon.config.SecurityConfig;
+import com.suyeon.suyeon.config.TokenDenylist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringJUnitWebConfig(SecurityConfigTest.TestConfig.class)
+public class SecurityConfigTest {
+
+    private static final String SECRET = "cef2660faf36986dca4d1c4b5850eaf0be4900af9713f11a9ef86c952eb53d0c";
+    private static final long ACCESS_TOKEN_VALIDITY_DURATION = 60 * 60 * 1000L;
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp()
+    {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    public void shouldReturn403_WhenMemberTokenCallsImport() throws Exception
+    {
+        String token = jwtUtil.createAccessToken("testMember", "ROLE_USER", ACCESS_TOKEN_VALIDITY_DURATION);
+
+        mockMvc.perform(post("/api/members/import").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/members/profile").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldReturn403_WhenTokenHasNoRole() throws Exception
+    {
+        String token = jwtUtil.createJwt("testMember", "access", "suyeon", ACCESS_TOKEN_VALIDITY_DURATION);
+
+        mockMvc.perform(post("/api/members/import").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void shouldReturn200_WhenAdminTokenCallsImport() throws Exception
+    {
+        String token = jwtUtil.createAccessToken("operator", "ROLE_ADMIN", ACCESS_TOKEN_VALIDITY_DURATION);
+
+        mockMvc.perform(post("/api/members/import").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import(SecurityConfig.class)
+    static class TestConfig {
+
+        @Bean
+        public JwtUtil jwtUtil() {
+            return new JwtUtil(SECRET);
+        }
+
+        @Bean
+        public JwtClaimsCache jwtClaimsCache(JwtUtil jwtUtil) {
+            return new JwtClaimsCache(jwtUtil, 100);
+        }
+
+        @Bean
+        public TokenDenylist tokenDenylist() {
+            return new TokenDenylist(1000, 0.01);
+        }
+
+        @Bean
+        public AuthMetrics authMetrics() {
+            return new AuthMetrics(new SimpleMeterRegistry());
+        }
+
+        @Bean
+        public StubMemberController stubMemberController() {
+            return new StubMemberController();
+        }
+    }
+
+    // 인가 규칙만 확인하기 위해 실제 컨트롤러 대신 같은 경로에 응답만 하는 컨트롤러를 둡니다.
+    @RestController
+    static class StubMemberController {
+
+        @PostMapping("/api/members/import")
+        public String importMembers() {
+            return "imported";
+        }
+
+        @GetMapping("/api/members/profile")
+        public String profile() {
+            return "profile";
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.suyeon.suyeon;
+
+import com.suyeon.suyeon.config.BloomFilter;
+import com.suyeon.suyeon.config.TokenDenylist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenDenylistTest {
+
+    private final TokenDenylist tokenDenylist = new TokenDenylist(1000, 0.01);
+
+    @Test
+    public void isRevoked_ShouldReturnTrue_WhenTokenIsRevoked()
+    {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        tokenDenylist.revoke("revoked-jti", expiresAt);
+
+        assertTrue(tokenDenylist.isRevoked("revoked-jti"));
+        assertFalse(tokenDenylist.isRevoked("other-jti"));
+        assertFalse(tokenDenylist.isRevoked(null));
+    }
+
+    @Test
+    public void revoke_ShouldIgnore_WhenTokenIsAlreadyExpired()
+    {
+        tokenDenylist.revoke("expired-jti", System.currentTimeMillis() - 1);
+
+        assertFalse(tokenDenylist.isRevoked("expired-jti"));
+        assertEquals(0, tokenDenylist.size());
+    }
+
+    @Test
+    public void rebuild_ShouldKeepRevokedTokens()
+    {
+        tokenDenylist.revoke("revoked-jti", System.currentTimeMillis() + 60_000);
+
+        tokenDenylist.rebuild();
+
+        assertTrue(tokenDenylist.isRevoked("revoked-jti"));
+    }
+
+    @Test
+    public void isRevoked_ShouldCountBloomHitNotRevoked_WhenRevocationExpiredBeforeRebuild() throws InterruptedException
+    {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        tokenDenylist.bindTo(meterRegistry);
+        tokenDenylist.revoke("short-lived-jti", System.currentTimeMillis() + 20);
+        Thread.sleep(50);
+
+        // 캐시에서는 만료되었지만 rebuild 전이라 Bloom filter에는 남아 있습니다.
+        assertFalse(tokenDenylist.isRevoked("short-lived-jti"));
+        assertEquals(1.0, meterRegistry.get("jwt.denylist.lookups").tag("result", "bloom_hit_not_revoked").functionCounter().count());
+
+        tokenDenylist.rebuild();
+
+        assertFalse(tokenDenylist.isRevoked("short-lived-jti"));
+        assertEquals(1.0, meterRegistry.get("jwt.denylist.lookups").tag("result", "bloom_negative").functionCounter().count());
+    }
+
+    @Test
+    public void mightContain_ShouldStayNearFalsePositiveRate()
+    {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            String key = "inserted-" + i;
+            bloomFilter.put(key);
+            assertTrue(bloomFilter.mightContain(key));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives : " + falsePositives);
+    }
+}